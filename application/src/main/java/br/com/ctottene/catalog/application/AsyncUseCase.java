@@ -0,0 +1,8 @@
+package br.com.ctottene.catalog.application;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUseCase<IN, OUT> {
+
+    public abstract CompletableFuture<OUT> execute(IN in);
+}
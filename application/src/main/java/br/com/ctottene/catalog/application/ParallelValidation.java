@@ -0,0 +1,85 @@
+package br.com.ctottene.catalog.application;
+
+import br.com.ctottene.catalog.domain.Identifier;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.domain.validation.ValidationHandler;
+import br.com.ctottene.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/*
+ * Starts every check on the executor as soon as it is added and merges the results into a single
+ * Notification, keeping the order in which the checks were added regardless of which finishes first.
+ */
+public final class ParallelValidation {
+
+    private final Executor executor;
+    private final List<CompletableFuture<? extends ValidationHandler>> checks = new ArrayList<>();
+
+    private ParallelValidation(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public static ParallelValidation on(final Executor executor) {
+        return new ParallelValidation(executor);
+    }
+
+    public ParallelValidation check(final Supplier<? extends ValidationHandler> aCheck) {
+        this.checks.add(CompletableFuture.supplyAsync(aCheck, this.executor));
+        return this;
+    }
+
+    public <T extends Identifier> ParallelValidation exists(
+            final String aggregate,
+            final Collection<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return this;
+        }
+        return check(() -> missing(aggregate, ids, existsByIds));
+    }
+
+    public CompletableFuture<Notification> merge() {
+        return CompletableFuture.allOf(this.checks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    final var notification = Notification.create();
+                    this.checks.forEach(it -> notification.append(it.join()));
+                    return notification;
+                });
+    }
+
+    public static <T extends Identifier> ValidationHandler missing(
+            final String aggregate,
+            final Collection<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var notification = Notification.create();
+        if (ids == null || ids.isEmpty()) {
+            return notification;
+        }
+
+        final var retrievedIds = existsByIds.apply(ids);
+
+        if (ids.size() != retrievedIds.size()) {
+            final var missingIds = new ArrayList<>(ids);
+            missingIds.removeAll(retrievedIds);
+
+            final var missingIdsMessage = missingIds.stream()
+                    .map(Identifier::getValue)
+                    .collect(Collectors.joining(", "));
+
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+
+        return notification;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.ctottene.catalog.application.castmember.retrieve.list;
+
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+
+public interface CastMemberListQueryGateway {
+
+    Pagination<CastMemberListOutput> findAll(SearchQuery aQuery);
+}
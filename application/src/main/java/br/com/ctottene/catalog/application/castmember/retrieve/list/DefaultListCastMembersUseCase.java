@@ -1,6 +1,5 @@
 package br.com.ctottene.catalog.application.castmember.retrieve.list;
 
-import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public non-sealed class DefaultListCastMembersUseCase extends ListCastMembersUseCase {
 
-    private final CastMemberGateway castMemberGateway;
+    private final CastMemberListQueryGateway queryGateway;
 
-    public DefaultListCastMembersUseCase(final CastMemberGateway castMemberGateway) {
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    public DefaultListCastMembersUseCase(final CastMemberListQueryGateway queryGateway) {
+        this.queryGateway = Objects.requireNonNull(queryGateway);
     }
 
     @Override
     public Pagination<CastMemberListOutput> execute(final SearchQuery aQuery) {
-        return this.castMemberGateway.findAll(aQuery)
-                .map(CastMemberListOutput::from);
+        return this.queryGateway.findAll(aQuery);
     }
 }
@@ -0,0 +1,11 @@
+package br.com.ctottene.catalog.application.category.create;
+
+import java.util.List;
+
+public record CreateCategoriesCommand(
+        List<CreateCategoryCommand> items
+) {
+    public static CreateCategoriesCommand with(final List<CreateCategoryCommand> items) {
+        return new CreateCategoriesCommand(items);
+    }
+}
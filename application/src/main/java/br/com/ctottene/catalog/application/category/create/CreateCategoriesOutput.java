@@ -0,0 +1,16 @@
+package br.com.ctottene.catalog.application.category.create;
+
+import br.com.ctottene.catalog.domain.category.Category;
+
+import java.util.List;
+
+public record CreateCategoriesOutput(
+        List<String> ids
+) {
+
+    public static CreateCategoriesOutput from(final List<Category> categories) {
+        return new CreateCategoriesOutput(categories.stream()
+                .map(aCategory -> aCategory.getId().getValue())
+                .toList());
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.ctottene.catalog.application.category.create;
+
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.*;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, CreateCategoriesOutput> execute(final CreateCategoriesCommand aCommand) {
+        final var notification = Notification.create();
+        final var categories = new ArrayList<Category>(aCommand.items().size());
+
+        for (int index = 0; index < aCommand.items().size(); index++) {
+            final var anItem = aCommand.items().get(index);
+            final var aCategory = Category.newCategory(anItem.name(), anItem.description(), anItem.isActive());
+
+            final var itemNotification = Notification.create();
+            aCategory.validate(itemNotification);
+
+            for (final var anError : itemNotification.getErrors()) {
+                notification.append(new Error("items[%d]: %s".formatted(index, anError.message())));
+            }
+            categories.add(aCategory);
+        }
+
+        return notification.hasError() ? Left(notification) : create(categories);
+    }
+
+    private Either<Notification, CreateCategoriesOutput> create(final List<Category> categories) {
+        return Try(() -> this.categoryGateway.createAll(categories))
+                .toEither()
+                .bimap(Notification::create, CreateCategoriesOutput::from);
+    }
+}
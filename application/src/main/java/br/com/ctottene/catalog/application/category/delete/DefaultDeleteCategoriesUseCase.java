@@ -0,0 +1,23 @@
+package br.com.ctottene.catalog.application.category.delete;
+
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final List<String> anIn) {
+        this.categoryGateway.deleteAllById(anIn.stream()
+                .map(CategoryID::from)
+                .toList());
+    }
+}
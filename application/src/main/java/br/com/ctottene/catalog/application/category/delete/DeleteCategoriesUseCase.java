@@ -0,0 +1,8 @@
+package br.com.ctottene.catalog.application.category.delete;
+
+import br.com.ctottene.catalog.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class DeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+}
@@ -0,0 +1,9 @@
+package br.com.ctottene.catalog.application.category.retrieve.list;
+
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+
+public interface CategoryListQueryGateway {
+
+    Pagination<CategoryListOutput> findAll(SearchQuery aQuery);
+}
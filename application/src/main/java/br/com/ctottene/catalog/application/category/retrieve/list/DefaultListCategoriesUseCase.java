@@ -1,6 +1,5 @@
 package br.com.ctottene.catalog.application.category.retrieve.list;
 
-import br.com.ctottene.catalog.domain.category.CategoryGateway;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase{
 
-    private final CategoryGateway categoryGateway;
+    private final CategoryListQueryGateway queryGateway;
 
-    public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public DefaultListCategoriesUseCase(final CategoryListQueryGateway queryGateway) {
+        this.queryGateway = Objects.requireNonNull(queryGateway);
     }
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
-                .map(CategoryListOutput::from);
+        return this.queryGateway.findAll(aQuery);
     }
 }
@@ -1,6 +1,5 @@
 package br.com.ctottene.catalog.application.genre.retrieve.list;
 
-import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 
@@ -8,15 +7,14 @@ import java.util.Objects;
 
 public class DefaultListGenresUseCase extends ListGenresUseCase {
 
-    private final GenreGateway genreGateway;
+    private final GenreListQueryGateway queryGateway;
 
-    public DefaultListGenresUseCase(final GenreGateway genreGateway) {
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+    public DefaultListGenresUseCase(final GenreListQueryGateway queryGateway) {
+        this.queryGateway = Objects.requireNonNull(queryGateway);
     }
 
     @Override
     public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
-        return this.genreGateway.findAll(aQuery)
-                .map(GenreListOutput::from);
+        return this.queryGateway.findAll(aQuery);
     }
 }
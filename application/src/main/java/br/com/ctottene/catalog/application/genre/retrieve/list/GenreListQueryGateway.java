@@ -0,0 +1,9 @@
+package br.com.ctottene.catalog.application.genre.retrieve.list;
+
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+
+public interface GenreListQueryGateway {
+
+    Pagination<GenreListOutput> findAll(SearchQuery aQuery);
+}
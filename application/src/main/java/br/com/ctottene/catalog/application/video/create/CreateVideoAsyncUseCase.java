@@ -0,0 +1,8 @@
+package br.com.ctottene.catalog.application.video.create;
+
+import br.com.ctottene.catalog.application.AsyncUseCase;
+
+public abstract class CreateVideoAsyncUseCase
+        extends AsyncUseCase<CreateVideoCommand, CreateVideoOutput> {
+
+}
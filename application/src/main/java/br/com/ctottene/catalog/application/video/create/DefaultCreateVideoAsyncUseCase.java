@@ -0,0 +1,105 @@
+package br.com.ctottene.catalog.application.video.create;
+
+import br.com.ctottene.catalog.application.ParallelValidation;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.exceptions.NotificationException;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.domain.validation.handler.Notification;
+import br.com.ctottene.catalog.domain.video.Rating;
+import br.com.ctottene.catalog.domain.video.Video;
+import br.com.ctottene.catalog.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Same rules as DefaultCreateVideoUseCase, but the three existsByIds round trips run concurrently on
+ * the executor while the aggregate itself is validated on the caller thread.
+ */
+public class DefaultCreateVideoAsyncUseCase extends CreateVideoAsyncUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final VideoGateway videoGateway;
+    private final Executor executor;
+
+    public DefaultCreateVideoAsyncUseCase(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final VideoGateway videoGateway,
+            final Executor executor
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<CreateVideoOutput> execute(final CreateVideoCommand command) {
+        final var rating = Rating.of(command.rating()).orElse(null);
+        if (rating == null) {
+            return CompletableFuture.failedFuture(
+                    DomainException.with(new Error("Rating not found %s".formatted(command.rating())))
+            );
+        }
+
+        final var launchYear = command.launchedAt() != null ? Year.of(command.launchedAt()) : null;
+        final var categories = toIdentifier(command.categories(), CategoryID::from);
+        final var members = toIdentifier(command.members(), CastMemberID::from);
+        final var genres = toIdentifier(command.genres(), GenreID::from);
+
+        final var associations = ParallelValidation.on(this.executor)
+                .exists("categories", categories, categoryGateway::existsByIds)
+                .exists("genres", genres, genreGateway::existsByIds)
+                .exists("cast members", members, castMemberGateway::existsByIds)
+                .merge();
+
+        final var video = Video.newVideo(
+                command.title(),
+                command.description(),
+                launchYear,
+                command.duration(),
+                command.opened(),
+                command.published(),
+                rating,
+                categories,
+                genres,
+                members
+        );
+
+        final var aggregate = Notification.create();
+        video.validate(aggregate);
+
+        // Writes on the executor instead of on whichever pool thread finished the last check
+        return associations.thenApplyAsync(notification -> {
+            notification.append(aggregate);
+
+            if (notification.hasError()) {
+                throw new NotificationException("Could not create Aggregate Video", notification);
+            }
+
+            return CreateVideoOutput.from(this.videoGateway.create(video));
+        }, this.executor);
+    }
+
+    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
@@ -53,9 +53,9 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var genres = toIdentifier(command.genres(), GenreID::from);
 
         final var notification = Notification.create();
-//        notification.append(validateCategories(categories));
-//        notification.append(validateGenres(genres));
-//        notification.append(validateCastMembers(members));
+        notification.append(validateCategories(categories));
+        notification.append(validateGenres(genres));
+        notification.append(validateCastMembers(members));
 
         final var video = Video.newVideo(
                 command.title(),
@@ -3,9 +3,9 @@ package br.com.ctottene.catalog.application.castmember.retreive.list;
 import br.com.ctottene.catalog.application.Fixture;
 import br.com.ctottene.catalog.application.UseCaseTest;
 import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListQueryGateway;
 import br.com.ctottene.catalog.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import br.com.ctottene.catalog.domain.castmember.CastMember;
-import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -25,11 +25,11 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
     private DefaultListCastMembersUseCase useCase;
 
     @Mock
-    private CastMemberGateway castMemberGateway;
+    private CastMemberListQueryGateway queryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(castMemberGateway);
+        return List.of(queryGateway);
     }
 
     @Test
@@ -52,8 +52,8 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
         final var expectedPagination =
                 new Pagination<>(expectedPage, expectedPerPage, expectedTotal, castMembers);
 
-        when(castMemberGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(any()))
+                .thenReturn(expectedPagination.map(CastMemberListOutput::from));
 
         final var query = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -66,7 +66,7 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway).findAll(eq(query));
+        verify(queryGateway).findAll(eq(query));
     }
 
     @Test
@@ -86,8 +86,8 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
         final var expectedPagination =
                 new Pagination<>(expectedPage, expectedPerPage, expectedTotal, castMembers);
 
-        when(castMemberGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(any()))
+                .thenReturn(expectedPagination.map(CastMemberListOutput::from));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -100,7 +100,7 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway, times(1)).findAll(eq(aQuery));
+        verify(queryGateway, times(1)).findAll(eq(aQuery));
     }
 
     @Test
@@ -114,7 +114,7 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway Error";
 
-        when(castMemberGateway.findAll(any()))
+        when(queryGateway.findAll(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var query = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
@@ -125,6 +125,6 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
         // then
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway, times(1)).findAll(eq(query));
+        verify(queryGateway, times(1)).findAll(eq(query));
     }
 }
@@ -0,0 +1,100 @@
+package br.com.ctottene.catalog.application.category.create;
+
+import br.com.ctottene.catalog.application.UseCaseTest;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class CreateCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategories_shouldReturnCategoryIds() {
+        // given
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", "Most watched category", true),
+                CreateCategoryCommand.with("Series", null, false)
+        ));
+
+        when(categoryGateway.createAll(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        // then
+        Assertions.assertEquals(2, actualOutput.ids().size());
+
+        Mockito.verify(categoryGateway, times(1)).createAll(Mockito.argThat(categories ->
+                categories.size() == 2
+                        && "Movies".equals(categories.get(0).getName())
+                        && categories.get(0).isActive()
+                        && "Series".equals(categories.get(1).getName())
+                        && !categories.get(1).isActive()
+                        && categories.get(1).getDeletedAt() != null
+                        && actualOutput.ids().get(1).equals(categories.get(1).getId().getValue())
+        ));
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsCreateCategories_shouldReturnAllErrorsWithItemIndex() {
+        // given
+        final var expectedErrorCount = 2;
+
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with(null, "Most watched category", true),
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with(" ", null, true)
+        ));
+
+        // when
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
+        Assertions.assertEquals("items[0]: 'name' should not be null", notification.getErrors().get(0).message());
+        Assertions.assertEquals("items[2]: 'name' should not be empty", notification.getErrors().get(1).message());
+
+        Mockito.verify(categoryGateway, times(0)).createAll(any());
+    }
+
+    @Test
+    public void givenValidCommands_whenGatewayThrowsRandomException_shouldReturnAException() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Movies", null, true)
+        ));
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        // then
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.ctottene.catalog.application.category.delete;
+
+import br.com.ctottene.catalog.application.UseCaseTest;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeleteCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_shouldDeleteAllInOneCall() {
+        // given
+        final var expectedIds = List.of(CategoryID.from("123"), CategoryID.from("456"));
+
+        doNothing().when(categoryGateway).deleteAllById(any());
+
+        // when
+        Assertions.assertDoesNotThrow(() -> useCase.execute(List.of("123", "456")));
+
+        // then
+        verify(categoryGateway, times(1)).deleteAllById(eq(expectedIds));
+    }
+
+    @Test
+    public void givenValidIds_whenGatewayThrowsException_shouldReturnException() {
+        // given
+        doThrow(new IllegalStateException("Gateway error"))
+                .when(categoryGateway).deleteAllById(any());
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(List.of("123")));
+
+        // then
+        verify(categoryGateway, times(1)).deleteAllById(any());
+    }
+}
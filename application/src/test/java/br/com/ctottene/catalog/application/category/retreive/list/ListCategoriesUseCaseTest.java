@@ -2,9 +2,9 @@ package br.com.ctottene.catalog.application.category.retreive.list;
 
 import br.com.ctottene.catalog.application.UseCaseTest;
 import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListOutput;
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListQueryGateway;
 import br.com.ctottene.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import br.com.ctottene.catalog.domain.category.Category;
-import br.com.ctottene.catalog.domain.category.CategoryGateway;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -23,11 +23,11 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     private DefaultListCategoriesUseCase useCase;
 
     @Mock
-    private CategoryGateway categoryGateway;
+    private CategoryListQueryGateway queryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(queryGateway);
     }
 
     @Test
@@ -50,8 +50,8 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(eq(aQuery)))
+                .thenReturn(expectedPagination.map(CategoryListOutput::from));
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -80,8 +80,8 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(eq(aQuery)))
+                .thenReturn(expectedPagination.map(CategoryListOutput::from));
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -102,7 +102,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
         final var expectedErrorMessage = "Gateway Error";
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(queryGateway.findAll(eq(aQuery)))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualResult = Assertions.assertThrows(
@@ -3,8 +3,8 @@ package br.com.ctottene.catalog.application.genre.retreive.list;
 import br.com.ctottene.catalog.application.UseCaseTest;
 import br.com.ctottene.catalog.application.genre.retrieve.list.DefaultListGenresUseCase;
 import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListOutput;
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListQueryGateway;
 import br.com.ctottene.catalog.domain.genre.Genre;
-import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -24,11 +24,11 @@ public class ListGenresUseCaseTest extends UseCaseTest {
     private DefaultListGenresUseCase useCase;
 
     @Mock
-    private GenreGateway genreGateway;
+    private GenreListQueryGateway queryGateway;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(genreGateway);
+        return List.of(queryGateway);
     }
 
     @Test
@@ -51,8 +51,8 @@ public class ListGenresUseCaseTest extends UseCaseTest {
         final var expectedPagination =
                 new Pagination<>(expectedPage, expectedPerPage, expectedTotal, genres);
 
-        when(genreGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(any()))
+                .thenReturn(expectedPagination.map(GenreListOutput::from));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -65,7 +65,7 @@ public class ListGenresUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(genreGateway, times(1)).findAll(eq(aQuery));
+        verify(queryGateway, times(1)).findAll(eq(aQuery));
     }
 
     @Test
@@ -85,8 +85,8 @@ public class ListGenresUseCaseTest extends UseCaseTest {
         final var expectedPagination =
                 new Pagination<>(expectedPage, expectedPerPage, expectedTotal, genres);
 
-        when(genreGateway.findAll(any()))
-                .thenReturn(expectedPagination);
+        when(queryGateway.findAll(any()))
+                .thenReturn(expectedPagination.map(GenreListOutput::from));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
@@ -99,7 +99,7 @@ public class ListGenresUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(genreGateway, times(1)).findAll(eq(aQuery));
+        verify(queryGateway, times(1)).findAll(eq(aQuery));
     }
 
     @Test
@@ -113,7 +113,7 @@ public class ListGenresUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway Error";
 
-        when(genreGateway.findAll(any()))
+        when(queryGateway.findAll(any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
@@ -124,6 +124,6 @@ public class ListGenresUseCaseTest extends UseCaseTest {
         // then
         Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
 
-        verify(genreGateway, times(1)).findAll(eq(aQuery));
+        verify(queryGateway, times(1)).findAll(eq(aQuery));
     }
 }
@@ -0,0 +1,159 @@
+package br.com.ctottene.catalog.application.video.create;
+
+import br.com.ctottene.catalog.application.Fixture;
+import br.com.ctottene.catalog.application.UseCaseTest;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.exceptions.NotificationException;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.video.VideoGateway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+public class CreateVideoAsyncUseCaseTest extends UseCaseTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(3);
+
+    private DefaultCreateVideoAsyncUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DefaultCreateVideoAsyncUseCase(categoryGateway, castMemberGateway, genreGateway, videoGateway, EXECUTOR);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateVideoAsync_shouldCheckAssociationsConcurrently() throws Exception {
+        // given
+        final var expectedCategories = Set.of(Fixture.Categories.movies().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.action().getId());
+        final var expectedCastMembers = Set.of(Fixture.CastMembers.henry().getId());
+
+        final var command = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(expectedCategories),
+                asString(expectedGenres),
+                asString(expectedCastMembers)
+        );
+
+        // every check waits for the other two, so a sequential implementation would time out
+        final var inFlight = new CountDownLatch(3);
+
+        when(categoryGateway.existsByIds(any())).thenAnswer(it -> {
+            awaitOthers(inFlight);
+            return new ArrayList<>(expectedCategories);
+        });
+        when(genreGateway.existsByIds(any())).thenAnswer(it -> {
+            awaitOthers(inFlight);
+            return new ArrayList<>(expectedGenres);
+        });
+        when(castMemberGateway.existsByIds(any())).thenAnswer(it -> {
+            awaitOthers(inFlight);
+            return new ArrayList<>(expectedCastMembers);
+        });
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(command).get(5, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertNotNull(actualResult);
+        Assertions.assertNotNull(actualResult.id());
+
+        verify(videoGateway, times(1)).create(argThat(actualVideo ->
+                expectedCategories.equals(actualVideo.getCategories())
+                        && expectedGenres.equals(actualVideo.getGenres())
+                        && expectedCastMembers.equals(actualVideo.getCastMembers())
+        ));
+    }
+
+    @Test
+    public void givenMissingCategoriesAndCastMembers_whenCallsCreateVideoAsync_shouldMergeErrorsInOneNotification() {
+        // given
+        final var movies = Fixture.Categories.movies().getId();
+        final var henry = Fixture.CastMembers.henry().getId();
+        final var expectedErrorCount = 2;
+        final var expectedFirstMessage = "Some categories could not be found: %s".formatted(movies.getValue());
+        final var expectedSecondMessage = "Some cast members could not be found: %s".formatted(henry.getValue());
+
+        final var command = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(Set.of(movies)),
+                Set.of(),
+                asString(Set.of(henry))
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>());
+        when(castMemberGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>());
+
+        // when
+        final var actualFailure = Assertions.assertThrows(ExecutionException.class, () -> useCase.execute(command).get(5, TimeUnit.SECONDS));
+
+        // then
+        final var actualException = Assertions.assertInstanceOf(NotificationException.class, actualFailure.getCause());
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedFirstMessage, actualException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedSecondMessage, actualException.getErrors().get(1).message());
+
+        verify(genreGateway, times(0)).existsByIds(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    private static void awaitOthers(final CountDownLatch inFlight) throws InterruptedException {
+        inFlight.countDown();
+        if (!inFlight.await(2, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Association checks did not run concurrently");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
 import br.com.ctottene.catalog.domain.castmember.CastMemberID;
 import br.com.ctottene.catalog.domain.category.CategoryGateway;
 import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.exceptions.NotificationException;
 import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.domain.genre.GenreID;
 import br.com.ctottene.catalog.domain.video.Resource;
@@ -83,8 +84,6 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 expectedThumbnail,
                 expectedThumbnailHalf
         );
-        // when
-        final var actualResult = useCase.execute(command);
         when(categoryGateway.existsByIds(any()))
                 .thenReturn(new ArrayList<>(expectedCategories));
 
@@ -97,6 +96,9 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         when(videoGateway.create(any()))
                 .thenAnswer(returnsFirstArg());
 
+        // when
+        final var actualResult = useCase.execute(command);
+
         // then
         Assertions.assertNotNull(actualResult);
         Assertions.assertNotNull(actualResult.id());
@@ -125,4 +127,38 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         ));
 
     }
+
+    @Test
+    public void givenAnInvalidCategoryId_whenCallsCreateVideo_shouldReturnNotificationException() {
+        // given
+        final var movies = Fixture.Categories.movies().getId();
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "Some categories could not be found: %s".formatted(movies.getValue());
+
+        final var command = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(Set.of(movies)),
+                Set.of(),
+                Set.of()
+        );
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(command));
+
+        // then
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(categoryGateway, times(1)).existsByIds(eq(Set.of(movies)));
+        verify(videoGateway, times(0)).create(any());
+    }
 }
@@ -0,0 +1,43 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const CATEGORIES = Number(__ENV.CATEGORIES || 200);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Number(__ENV.VUS || 2000) },
+                { duration: '2m', target: Number(__ENV.VUS || 2000) },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < CATEGORIES; i++) {
+        const res = http.post(`${BASE_URL}/categories`, JSON.stringify({
+            name: `Benchmark ${i}`,
+            description: `Category ${i}`,
+            is_active: true,
+        }), { headers: { 'Content-Type': 'application/json' } });
+        ids.push(res.json('id'));
+    }
+    return { ids };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const byId = http.get(`${BASE_URL}/categories/${id}`, { tags: { name: 'GET /categories/{id}' } });
+    check(byId, { 'get by id is 200': (r) => r.status === 200 });
+
+    const page = http.get(`${BASE_URL}/categories?perPage=25&sort=name&dir=asc`, { tags: { name: 'GET /categories' } });
+    check(page, { 'list is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Compara o modo padrão (workers do Undertow) com virtual threads usando o mesmo banco e a mesma carga.
+# Requisitos: JDK 21, k6 e o MySQL do docker-compose.yml rodando. Uso: ./run.sh [VUS]
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT="$(dirname "$0")/results"
+VUS="${1:-2000}"
+
+mkdir -p "$OUT"
+(cd "$ROOT" && ./gradlew -q bootJar)
+
+run() {
+    local mode="$1" virtual="$2"
+
+    # Caches e limite de concorrência desligados para que toda requisição chegue ao banco e dispute o pool de conexões.
+    SPRING_PROFILES_ACTIVE=dev java -jar "$ROOT/build/libs/application.jar" \
+        --catalog.web.virtual-threads.enabled="$virtual" \
+        --catalog.web.concurrency-limit.enabled=false \
+        --catalog.cache.categories.ttl=0s \
+        --catalog.cache.categories.list-max-staleness=0s \
+        --spring.jpa.show-sql=false > "$OUT/$mode.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+
+    until curl -sf "http://localhost:8080/api/categories" > /dev/null; do sleep 1; done
+
+    k6 run -e VUS="$VUS" --summary-export "$OUT/$mode.json" "$(dirname "$0")/get-by-id.js" | tee "$OUT/$mode.txt"
+}
+
+run platform-threads false
+run virtual-threads true
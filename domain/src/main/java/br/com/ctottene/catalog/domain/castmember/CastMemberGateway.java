@@ -9,6 +9,7 @@ import java.util.Optional;
 public interface CastMemberGateway {
 
     CastMember create(CastMember castMember);
+    List<CastMember> createAll(List<CastMember> castMembers);
     void deleteById(CastMemberID id);
     Optional<CastMember> findById(CastMemberID id);
     CastMember update(CastMember castMember);
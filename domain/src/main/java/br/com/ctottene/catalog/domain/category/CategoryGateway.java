@@ -10,8 +10,12 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID anId);
 
+    void deleteAllById(List<CategoryID> ids);
+
     Optional<Category> findById(CategoryID anId);
     Category update(Category aCategory);
 
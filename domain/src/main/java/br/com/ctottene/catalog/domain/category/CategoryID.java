@@ -19,7 +19,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        return new CategoryID(IdUtils.normalize(anId));
     }
 
 
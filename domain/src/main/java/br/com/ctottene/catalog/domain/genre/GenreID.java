@@ -1,6 +1,7 @@
 package br.com.ctottene.catalog.domain.genre;
 
 import br.com.ctottene.catalog.domain.Identifier;
+import br.com.ctottene.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -15,15 +16,15 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(IdUtils.uuid());
     }
 
     public static GenreID from(final String anId) {
-        return new GenreID(anId);
+        return new GenreID(IdUtils.normalize(anId));
     }
 
     public static GenreID from(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
+        return GenreID.from(anId.toString());
     }
 
     @Override
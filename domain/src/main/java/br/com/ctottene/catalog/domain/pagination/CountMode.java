@@ -0,0 +1,34 @@
+package br.com.ctottene.catalog.domain.pagination;
+
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static Optional<CountMode> of(final String label) {
+        return Arrays.stream(CountMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+
+    /**
+     * Like {@link #of(String)}, but rejects unknown labels instead of letting callers fall back to
+     * an exact count.
+     */
+    public static CountMode from(final String label) {
+        return of(label).orElseThrow(() -> DomainException.with(new Error("Invalid count mode '%s', expected one of: %s".formatted(
+                label,
+                Arrays.stream(CountMode.values())
+                        .map(it -> it.name().toLowerCase())
+                        .sorted()
+                        .collect(Collectors.joining(", "))
+        ))));
+    }
+}
@@ -1,11 +1,55 @@
 package br.com.ctottene.catalog.domain.utils;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 public final class IdUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static final Pattern HEX_ID = Pattern.compile("[0-9a-fA-F]{32}");
+
+    private static long lastMillis;
+    private static int sequence;
+
     private IdUtils() {}
 
+    /*
+     * UUIDv7 (RFC 9562): 48-bit unix millis, version, 12-bit sequence and 62 random bits.
+     * The sequence keeps ids generated within the same millisecond strictly increasing.
+     */
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        final long msb;
+        synchronized (IdUtils.class) {
+            final var now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (++sequence > MAX_SEQUENCE) {
+                lastMillis++;
+                sequence = 0;
+            }
+            msb = (lastMillis << 16) | 0x7000L | sequence;
+        }
+        final var lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(msb, lsb).toString().toLowerCase().replace("-", "");
+    }
+
+    /*
+     * Ids are 32 lowercase hex digits. Genre ids created before they were stored as BINARY(16) were
+     * handed out in the dashed 36-character form, and the database matches hex in any case, so both
+     * spellings are folded into the canonical one. Anything else is returned unchanged.
+     */
+    public static String normalize(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+
+        final var hex = anId.replace("-", "");
+        return HEX_ID.matcher(hex).matches() ? hex.toLowerCase() : anId;
     }
 }
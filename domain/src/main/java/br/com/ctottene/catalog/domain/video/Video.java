@@ -93,7 +93,7 @@ public class Video extends AggregateRoot<VideoID> {
             final Set<GenreID> genres,
             final Set<CastMemberID> castMembers
     ) {
-        final var now = Instant.now();
+        final var now = InstantUtils.now();
         final var id = VideoID.unique();
         return new Video(
                 id,
@@ -117,6 +117,51 @@ public class Video extends AggregateRoot<VideoID> {
         );
     }
 
+    public static Video with(
+            final VideoID id,
+            final String title,
+            final String description,
+            final Year launchedAt,
+            final double duration,
+            final boolean opened,
+            final boolean published,
+            final Rating rating,
+
+            final ImageMedia banner,
+            final ImageMedia thumbnail,
+            final ImageMedia thumbnailHalf,
+            final AudioVideoMedia trailer,
+            final AudioVideoMedia video,
+
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers,
+
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        return new Video(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                opened,
+                published,
+                rating,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                trailer,
+                video,
+                categories,
+                genres,
+                castMembers,
+                createdAt,
+                updatedAt
+        );
+    }
+
     public static Video with(final Video video) {
         return new Video(
                 video.getId(),
@@ -16,7 +16,7 @@ public class VideoID extends Identifier {
     }
 
     public static VideoID from(final String id) {
-        return new VideoID(id.toLowerCase());
+        return new VideoID(IdUtils.normalize(id));
     }
 
     public static VideoID from(final UUID id) {
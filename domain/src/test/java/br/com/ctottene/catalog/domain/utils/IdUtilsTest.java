@@ -0,0 +1,50 @@
+package br.com.ctottene.catalog.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+public class IdUtilsTest {
+
+    @Test
+    public void givenNothing_whenCallsUuid_shouldReturnVersion7HexId() {
+        final var before = System.currentTimeMillis();
+
+        final var actualId = IdUtils.uuid();
+
+        Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+        Assertions.assertEquals('7', actualId.charAt(12));
+        Assertions.assertTrue("89ab".indexOf(actualId.charAt(16)) >= 0);
+        Assertions.assertTrue(Long.parseLong(actualId.substring(0, 12), 16) >= before);
+    }
+
+    @Test
+    public void givenManyCalls_whenCallsUuid_shouldReturnUniqueAndIncreasingIds() {
+        final var ids = IntStream.range(0, 20_000)
+                .mapToObj(i -> IdUtils.uuid())
+                .toList();
+
+        Assertions.assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            Assertions.assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void givenADashedOrUppercaseId_whenCallsNormalize_shouldReturnLowercaseHexId() {
+        final var expectedId = "0189e7a4c3b27c1d9f3e5a6b7c8d9e0f";
+
+        Assertions.assertEquals(expectedId, IdUtils.normalize(expectedId));
+        Assertions.assertEquals(expectedId, IdUtils.normalize("0189E7A4C3B27C1D9F3E5A6B7C8D9E0F"));
+        Assertions.assertEquals(expectedId, IdUtils.normalize("0189e7a4-c3b2-7c1d-9f3e-5a6b7c8d9e0f"));
+    }
+
+    @Test
+    public void givenANonHexId_whenCallsNormalize_shouldReturnItUnchanged() {
+        Assertions.assertEquals("123", IdUtils.normalize("123"));
+        Assertions.assertEquals("Not-An-Id", IdUtils.normalize("Not-An-Id"));
+        Assertions.assertNull(IdUtils.normalize(null));
+    }
+}
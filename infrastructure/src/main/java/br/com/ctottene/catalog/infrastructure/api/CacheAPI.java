@@ -0,0 +1,34 @@
+package br.com.ctottene.catalog.infrastructure.api;
+
+import br.com.ctottene.catalog.infrastructure.cache.CacheStats;
+import br.com.ctottene.catalog.infrastructure.cache.FlightStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping(value = "/caches")
+@Tag(name = "Caches")
+public interface CacheAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the in-process caches with their hit, miss and eviction counters")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    List<CacheStats> list();
+
+    @GetMapping(value = "/flights", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the single-flight loaders with how many concurrent lookups were collapsed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    List<FlightStats> flights();
+}
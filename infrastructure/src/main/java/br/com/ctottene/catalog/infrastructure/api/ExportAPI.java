@@ -0,0 +1,33 @@
+package br.com.ctottene.catalog.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+@RequestMapping(value = "/export")
+@Tag(name = "Export")
+public interface ExportAPI {
+
+    String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    @GetMapping(value = "{aggregate}", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every categories, genres or cast_members row as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "422", description = "Unknown aggregate"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @PathVariable(name = "aggregate") String aggregate,
+            @RequestParam(name = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false, defaultValue = "") String acceptEncoding
+    );
+}
@@ -0,0 +1,35 @@
+package br.com.ctottene.catalog.infrastructure.api;
+
+import br.com.ctottene.catalog.infrastructure.imports.ImportFormat;
+import br.com.ctottene.catalog.infrastructure.imports.ImportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "/imports")
+@Tag(name = "Import")
+public interface ImportAPI {
+
+    @PostMapping(
+            value = "{aggregate}",
+            consumes = {ImportFormat.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Bulk import categories or cast_members from an NDJSON or CSV file")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported; rejected lines are listed in the report"),
+            @ApiResponse(responseCode = "422", description = "Unknown aggregate or format"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+    })
+    ImportReport importFile(
+            @PathVariable(name = "aggregate") String aggregate,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    );
+}
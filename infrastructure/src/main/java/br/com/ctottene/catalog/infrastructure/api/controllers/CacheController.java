@@ -0,0 +1,30 @@
+package br.com.ctottene.catalog.infrastructure.api.controllers;
+
+import br.com.ctottene.catalog.infrastructure.api.CacheAPI;
+import br.com.ctottene.catalog.infrastructure.cache.CacheRegistry;
+import br.com.ctottene.catalog.infrastructure.cache.CacheStats;
+import br.com.ctottene.catalog.infrastructure.cache.FlightStats;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private final CacheRegistry cacheRegistry;
+
+    public CacheController(final CacheRegistry cacheRegistry) {
+        this.cacheRegistry = Objects.requireNonNull(cacheRegistry);
+    }
+
+    @Override
+    public List<CacheStats> list() {
+        return this.cacheRegistry.stats();
+    }
+
+    @Override
+    public List<FlightStats> flights() {
+        return this.cacheRegistry.flightStats();
+    }
+}
@@ -8,6 +8,7 @@ import br.com.ctottene.catalog.application.castmember.retrieve.list.ListCastMemb
 import br.com.ctottene.catalog.application.castmember.update.UpdateCastMemberCommand;
 import br.com.ctottene.catalog.application.castmember.update.UpdateCastMemberUseCase;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.CountMode;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.api.CastMemberAPI;
 import br.com.ctottene.catalog.infrastructure.castmember.models.CreateCastMemberRequest;
@@ -15,6 +16,8 @@ import br.com.ctottene.catalog.infrastructure.castmember.models.CastMemberListRe
 import br.com.ctottene.catalog.infrastructure.castmember.models.CastMemberResponse;
 import br.com.ctottene.catalog.infrastructure.castmember.models.UpdateCastMemberRequest;
 import br.com.ctottene.catalog.infrastructure.castmember.presenters.CastMemberPresenter;
+import br.com.ctottene.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -57,14 +60,29 @@ public class CastMemberController implements CastMemberAPI {
     }
 
     @Override
-    public Pagination<CastMemberListResponse> listCastMembers(final String search, int page, int perPage, String sort, String dir) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+    public Pagination<CastMemberListResponse> listCastMembers(final String search, int page, int perPage, String sort, String dir, String cursor, String count) {
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                dir,
+                cursor,
+                CountMode.from(count)
+        );
+
+        return this.listCastMembersUseCase.execute(aQuery)
                 .map(CastMemberPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<CastMemberResponse> getById(final String id) {
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ETagUtils.of(output.id().getValue(), output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CastMemberPresenter.present(output));
     }
 
     @Override
@@ -1,14 +1,19 @@
 package br.com.ctottene.catalog.infrastructure.api.controllers;
 
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesCommand;
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesOutput;
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryCommand;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryOutput;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryUseCase;
+import br.com.ctottene.catalog.application.category.delete.DeleteCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.delete.DeleteCategoryUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.update.UpdateCategoryCommand;
 import br.com.ctottene.catalog.application.category.update.UpdateCategoryOutput;
 import br.com.ctottene.catalog.application.category.update.UpdateCategoryUseCase;
+import br.com.ctottene.catalog.domain.pagination.CountMode;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.validation.handler.Notification;
@@ -18,10 +23,14 @@ import br.com.ctottene.catalog.infrastructure.category.models.CategoryResponse;
 import br.com.ctottene.catalog.infrastructure.category.models.CreateCategoryRequest;
 import br.com.ctottene.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import br.com.ctottene.catalog.infrastructure.category.presenters.CategoryPresenter;
+import br.com.ctottene.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -33,19 +42,25 @@ public class CategoryController implements CategoryAPI {
     private UpdateCategoryUseCase updateCategoryUseCase;
     private DeleteCategoryUseCase deleteCategoryUseCase;
     private ListCategoriesUseCase listCategoriesUseCase;
+    private CreateCategoriesUseCase createCategoriesUseCase;
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            final DeleteCategoriesUseCase deleteCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
     }
 
     @Override
@@ -65,14 +80,47 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort, String dir) {
-        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommand = CreateCategoriesCommand.with(input.stream()
+                .map(it -> CreateCategoryCommand.with(
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true
+                ))
+                .toList());
+
+        final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
+
+        final Function<CreateCategoriesOutput, ResponseEntity<?>> onSuccess = output -> ResponseEntity.status(HttpStatus.CREATED).body(output);
+
+        return this.createCategoriesUseCase.execute(aCommand)
+                .fold(onError, onSuccess);
+    }
+
+    @Override
+    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort, String dir, String cursor, String count) {
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                dir,
+                cursor,
+                CountMode.from(count)
+        );
+
+        return this.listCategoriesUseCase.execute(aQuery)
                 .map(CategoryPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(String id) {
-        return CategoryPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<CategoryResponse> getById(String id) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ETagUtils.of(output.id().getValue(), output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CategoryPresenter.present(output));
     }
 
     @Override
@@ -98,4 +146,9 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
+
+    @Override
+    public void deleteByIds(final List<String> ids) {
+        this.deleteCategoriesUseCase.execute(ids);
+    }
 }
@@ -0,0 +1,53 @@
+package br.com.ctottene.catalog.infrastructure.api.controllers;
+
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.infrastructure.api.ExportAPI;
+import br.com.ctottene.catalog.infrastructure.export.ExportAggregate;
+import br.com.ctottene.catalog.infrastructure.export.ExportMySQLGateway;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+public class ExportController implements ExportAPI {
+
+    private static final String GZIP = "gzip";
+
+    private final ExportMySQLGateway exportGateway;
+
+    public ExportController(final ExportMySQLGateway exportGateway) {
+        this.exportGateway = Objects.requireNonNull(exportGateway);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String aggregate, final Instant since, final String acceptEncoding) {
+        final var anAggregate = ExportAggregate.of(aggregate)
+                .orElseThrow(() -> DomainException.with(new Error("Unknown aggregate '%s'".formatted(aggregate))));
+        final var gzip = acceptEncoding.toLowerCase().contains(GZIP);
+
+        final StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (final var gzipOut = new GZIPOutputStream(out)) {
+                    this.exportGateway.export(anAggregate, since, gzipOut);
+                }
+            } else {
+                this.exportGateway.export(anAggregate, since, out);
+            }
+        };
+
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+}
@@ -8,6 +8,7 @@ import br.com.ctottene.catalog.application.genre.retrieve.list.ListGenresUseCase
 import br.com.ctottene.catalog.application.genre.update.UpdateGenreCommand;
 import br.com.ctottene.catalog.application.genre.update.UpdateGenreUseCase;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.CountMode;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.api.GenreAPI;
 import br.com.ctottene.catalog.infrastructure.genre.models.CreateGenreRequest;
@@ -15,6 +16,8 @@ import br.com.ctottene.catalog.infrastructure.genre.models.GenreListResponse;
 import br.com.ctottene.catalog.infrastructure.genre.models.GenreResponse;
 import br.com.ctottene.catalog.infrastructure.genre.models.UpdateGenreRequest;
 import br.com.ctottene.catalog.infrastructure.genre.presenters.GenrePresenter;
+import br.com.ctottene.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -58,14 +61,29 @@ public class GenreController implements GenreAPI {
     }
 
     @Override
-    public Pagination<GenreListResponse> listGenres(final String search, int page, int perPage, String sort, String dir) {
-        return this.listGenresUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+    public Pagination<GenreListResponse> listGenres(final String search, int page, int perPage, String sort, String dir, String cursor, String count) {
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                dir,
+                cursor,
+                CountMode.from(count)
+        );
+
+        return this.listGenresUseCase.execute(aQuery)
                 .map(GenrePresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenrePresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id) {
+        final var output = this.getGenreByIdUseCase.execute(id);
+        // No Last-Modified: deleting a category drops it from the genre without changing updatedAt
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ETagUtils.of(output.id(), output.updatedAt(), output.categories()))
+                .body(GenrePresenter.present(output));
     }
 
     @Override
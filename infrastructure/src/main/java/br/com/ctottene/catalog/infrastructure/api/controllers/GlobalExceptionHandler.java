@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -24,6 +25,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(final RejectedExecutionException ex) {
+        final var message = "Server is busy, retry later";
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiError(message, List.of(new Error(message))));
+    }
+
     record  ApiError(String message, List<Error> errors) {
 
         static ApiError from(final DomainException ex) {
@@ -0,0 +1,33 @@
+package br.com.ctottene.catalog.infrastructure.api.controllers;
+
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.infrastructure.api.ImportAPI;
+import br.com.ctottene.catalog.infrastructure.imports.CatalogImporter;
+import br.com.ctottene.catalog.infrastructure.imports.ImportAggregate;
+import br.com.ctottene.catalog.infrastructure.imports.ImportFormat;
+import br.com.ctottene.catalog.infrastructure.imports.ImportReport;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.Objects;
+
+@RestController
+public class ImportController implements ImportAPI {
+
+    private final CatalogImporter catalogImporter;
+
+    public ImportController(final CatalogImporter catalogImporter) {
+        this.catalogImporter = Objects.requireNonNull(catalogImporter);
+    }
+
+    @Override
+    public ImportReport importFile(final String aggregate, final String contentType, final InputStream body) {
+        final var anAggregate = ImportAggregate.of(aggregate)
+                .orElseThrow(() -> DomainException.with(new Error("Unknown aggregate '%s'".formatted(aggregate))));
+        final var aFormat = ImportFormat.of(contentType)
+                .orElseThrow(() -> DomainException.with(new Error("Unsupported content type '%s'".formatted(contentType))));
+
+        return this.catalogImporter.importFrom(anAggregate, aFormat, body);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.ctottene.catalog.infrastructure.api.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Gradient concurrency limit: a short and a long moving average of the latency are compared on
+ * every completed request. While the short one stays within tolerance of the long one the limit
+ * grows by about sqrt(limit); when requests get slower it shrinks in proportion, down to half per
+ * sample. Failures (5xx, exceptions) cut the limit multiplicatively, as in AIMD. Samples taken while
+ * less than half of the limit is in use say nothing about capacity and are only used for the
+ * averages.
+ */
+public class AdaptiveLimit {
+
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_ALPHA = 2.0 / (500 + 1);
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveLimit(final String name, final int initialLimit, final int minLimit, final int maxLimit) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min-limit <= max-limit for '%s'".formatted(name));
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = this.inFlight.get();
+            if (current >= (int) this.limit) {
+                this.rejected.incrementAndGet();
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(final long rttNanos, final boolean failed) {
+        final var inFlightAtRelease = this.inFlight.getAndDecrement();
+        update(Math.max(rttNanos, 1), failed, inFlightAtRelease);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) this.limit;
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    public long getRejected() {
+        return this.rejected.get();
+    }
+
+    private synchronized void update(final long rtt, final boolean failed, final int inFlightAtRelease) {
+        if (failed) {
+            this.limit = clamp(this.limit * BACKOFF, this.minLimit, this.maxLimit);
+            return;
+        }
+
+        if (this.longRtt == 0) {
+            this.shortRtt = rtt;
+            this.longRtt = rtt;
+        } else {
+            this.shortRtt += (rtt - this.shortRtt) * SHORT_ALPHA;
+            this.longRtt += (rtt - this.longRtt) * LONG_ALPHA;
+        }
+
+        // after a sustained slowdown the baseline must follow, or the limit would never grow back
+        if (this.longRtt / this.shortRtt > 2) {
+            this.longRtt *= 0.95;
+        }
+
+        if (inFlightAtRelease < this.limit / 2) {
+            return;
+        }
+
+        final var gradient = clamp(TOLERANCE * this.longRtt / this.shortRtt, 0.5, 1.0);
+        final var next = this.limit * gradient + Math.sqrt(this.limit);
+        this.limit = clamp(this.limit * (1 - SMOOTHING) + next * SMOOTHING, this.minLimit, this.maxLimit);
+    }
+
+    private static double clamp(final double value, final double min, final double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
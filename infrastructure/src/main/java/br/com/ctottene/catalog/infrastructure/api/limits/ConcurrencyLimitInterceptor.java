@@ -0,0 +1,112 @@
+package br.com.ctottene.catalog.infrastructure.api.limits;
+
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.infrastructure.api.controllers.GlobalExceptionHandler;
+import br.com.ctottene.catalog.infrastructure.configuration.json.Json;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Admits a request to the controllers only while its group (reads or writes) is under its adaptive
+ * limit. Excess requests get 503 with Retry-After before any use case runs, so they never wait for a
+ * pooled connection. The permit is kept across async dispatches and returned when the response
+ * completes.
+ *
+ * Handlers that stream a body (exports write the response, imports read the request) last as long as
+ * the transfer, so their duration says nothing about how loaded the service is. They take no permit
+ * and feed no latency into either group; imports are bounded by catalog.import.max-concurrent.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private static final String CONTROLLERS = GlobalExceptionHandler.class.getPackageName();
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final AdaptiveLimit reads;
+    private final AdaptiveLimit writes;
+    private final String retryAfter;
+
+    public ConcurrencyLimitInterceptor(final AdaptiveLimit reads, final AdaptiveLimit writes, final Duration retryAfter) {
+        this.reads = Objects.requireNonNull(reads);
+        this.writes = Objects.requireNonNull(writes);
+        this.retryAfter = String.valueOf(Math.max(retryAfter.toSeconds(), 1));
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !isLimited(handler)) {
+            return true;
+        }
+
+        final var limit = READ_METHODS.contains(request.getMethod()) ? this.reads : this.writes;
+        if (!limit.tryAcquire()) {
+            reject(response, limit);
+            return false;
+        }
+
+        request.setAttribute(PERMIT, new Permit(limit, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler, final Exception ex) {
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        if (request.getAttribute(PERMIT) instanceof Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.limit().release(System.nanoTime() - permit.startedAt(), ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    private void reject(final HttpServletResponse response, final AdaptiveLimit limit) throws IOException {
+        final var message = "Too many concurrent %s, retry later".formatted(limit.getName());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(Json.writeValueAsString(Map.of(
+                "message", message,
+                "errors", List.of(new Error(message))
+        )));
+    }
+
+    private static boolean isLimited(final Object handler) {
+        return handler instanceof HandlerMethod method
+                && method.getBeanType().getPackageName().equals(CONTROLLERS)
+                && !streamsBody(method);
+    }
+
+    private static boolean streamsBody(final HandlerMethod method) {
+        final var returnType = ResolvableType.forMethodParameter(method.getReturnType());
+        final var body = ResponseEntity.class.isAssignableFrom(returnType.toClass())
+                ? returnType.getGeneric(0).toClass()
+                : returnType.toClass();
+
+        return StreamingResponseBody.class.isAssignableFrom(body)
+                || Arrays.stream(method.getMethodParameters())
+                        .anyMatch(it -> InputStream.class.isAssignableFrom(it.getParameterType()));
+    }
+
+    private record Permit(AdaptiveLimit limit, long startedAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.ctottene.catalog.infrastructure.batch;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/*
+ * Collects the keys requested by concurrent callers for up to one window, or until maxKeys are
+ * pending, and resolves all of them with a single loadAll call. A batch filled by a caller runs on
+ * that caller's thread; a batch closed by the timer runs on the scheduler's thread. While every
+ * scheduler thread is busy loading, windows stay open longer and batches grow up to maxKeys.
+ * Callers asking for the same key within one batch receive the same instance. Requested keys and
+ * the keys of loaded values are both passed through canonical before they are matched, so spellings
+ * the store treats as equal (e.g. id case) resolve to the same value.
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<List<K>, List<V>> loadAll;
+    private final Function<V, K> keyOf;
+    private final UnaryOperator<K> canonical;
+    private final long windowNanos;
+    private final int maxKeys;
+    private final TaskScheduler scheduler;
+
+    private Map<K, CompletableFuture<Optional<V>>> pending = new LinkedHashMap<>();
+
+    public BatchLoader(
+            final Function<List<K>, List<V>> loadAll,
+            final Function<V, K> keyOf,
+            final UnaryOperator<K> canonical,
+            final Duration window,
+            final int maxKeys,
+            final TaskScheduler scheduler
+    ) {
+        this.loadAll = Objects.requireNonNull(loadAll);
+        this.keyOf = Objects.requireNonNull(keyOf);
+        this.canonical = Objects.requireNonNull(canonical);
+        this.windowNanos = window.toNanos();
+        this.maxKeys = maxKeys;
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    public Optional<V> load(final K key) {
+        final CompletableFuture<Optional<V>> result;
+        Map<K, CompletableFuture<Optional<V>>> full = null;
+
+        synchronized (this) {
+            final var batch = this.pending;
+            result = batch.computeIfAbsent(this.canonical.apply(key), it -> new CompletableFuture<>());
+            if (batch.size() >= this.maxKeys) {
+                full = batch;
+                this.pending = new LinkedHashMap<>();
+            } else if (batch.size() == 1) {
+                schedule(batch);
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return await(result);
+    }
+
+    private void close(final Map<K, CompletableFuture<Optional<V>>> batch) {
+        synchronized (this) {
+            if (this.pending != batch) {
+                return;
+            }
+            this.pending = new LinkedHashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    private void schedule(final Map<K, CompletableFuture<Optional<V>>> batch) {
+        try {
+            this.scheduler.schedule(() -> close(batch), Instant.now().plusNanos(this.windowNanos));
+        } catch (final RuntimeException e) {
+            // the scheduler is shutting down: nothing would ever close this batch
+            this.pending = new LinkedHashMap<>();
+            throw e;
+        }
+    }
+
+    private void dispatch(final Map<K, CompletableFuture<Optional<V>>> batch) {
+        try {
+            final var found = this.loadAll.apply(new ArrayList<>(batch.keySet())).stream()
+                    .collect(Collectors.toMap(this.keyOf.andThen(this.canonical), Function.identity(), (a, b) -> a));
+            batch.forEach((key, result) -> result.complete(Optional.ofNullable(found.get(key))));
+        } catch (final RuntimeException | Error e) {
+            batch.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private static <V> V await(final CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Every use case configuration that decorates the same gateway must share one cache, otherwise an
+ * update issued through one of them would leave stale copies in the others.
+ */
+@Component
+public class CacheRegistry {
+
+    private final Map<String, LocalCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+    private final Map<String, SingleFlight<?, ?>> flights = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <K, V> LocalCache<K, V> cache(final String name, final int maxSize, final Duration ttl) {
+        return (LocalCache<K, V>) this.caches.computeIfAbsent(name, it -> new LocalCache<>(it, maxSize, ttl));
+    }
+
+    public Generation generation(final String name) {
+        return this.generations.computeIfAbsent(name, it -> new Generation());
+    }
+
+    /*
+     * For writes that change an aggregate behind its gateway's back, e.g. a foreign key cascade:
+     * drops its cached entries and bumps its generation, which also discards loads still in flight
+     * and every cached list page.
+     */
+    public void invalidateAll(final String name) {
+        generation(name).bump();
+        final var cache = this.caches.get(name);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> singleFlight(final String name) {
+        return (SingleFlight<K, V>) this.flights.computeIfAbsent(name, SingleFlight::new);
+    }
+
+    public List<CacheStats> stats() {
+        return this.caches.values().stream()
+                .map(LocalCache::stats)
+                .sorted(Comparator.comparing(CacheStats::name))
+                .toList();
+    }
+
+    public List<FlightStats> flightStats() {
+        return this.flights.values().stream()
+                .map(SingleFlight::stats)
+                .sorted(Comparator.comparing(FlightStats::name))
+                .toList();
+    }
+}
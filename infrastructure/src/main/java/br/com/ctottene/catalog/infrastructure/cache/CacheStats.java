@@ -0,0 +1,13 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheStats(
+        @JsonProperty("name") String name,
+        @JsonProperty("size") int size,
+        @JsonProperty("max_size") int maxSize,
+        @JsonProperty("hits") long hits,
+        @JsonProperty("misses") long misses,
+        @JsonProperty("evictions") long evictions
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record FlightStats(
+        @JsonProperty("name") String name,
+        @JsonProperty("in_flight") int inFlight,
+        @JsonProperty("loads") long loads,
+        @JsonProperty("collapsed") long collapsed
+) {
+}
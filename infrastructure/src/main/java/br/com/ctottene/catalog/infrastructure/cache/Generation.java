@@ -0,0 +1,21 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Version of everything cached for one aggregate. Entries are keyed by the generation they were read
+ * at, so bumping it makes all of them unreachable at once; the LRU and TTL of their cache reclaim
+ * the memory later.
+ */
+public class Generation {
+
+    private final AtomicLong value = new AtomicLong();
+
+    public long current() {
+        return this.value.get();
+    }
+
+    public void bump() {
+        this.value.incrementAndGet();
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import br.com.ctottene.catalog.domain.utils.IdUtils;
+import br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/*
+ * Bloom filter over the ids of one table, rebuilt from a full id scan. A negative answer is only
+ * trusted for UUIDv7 ids older than the last scan (minus a grace period for rows that were still
+ * being committed, or written by other instances); anything newer always goes to the database.
+ * Deleted ids stay in the filter until the next rebuild, which only costs a database check.
+ * Ids are normalized before they are hashed, since the database matches hex in any case or dashed.
+ */
+public class IdMembershipIndex {
+
+    private static final Duration GRACE = Duration.ofMinutes(5);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_IDS = 1_024;
+
+    private final JdbcOperations jdbcOperations;
+    private final String table;
+    private volatile Filter filter = Filter.empty();
+
+    public IdMembershipIndex(final JdbcOperations jdbcOperations, final String table) {
+        this.jdbcOperations = Objects.requireNonNull(jdbcOperations);
+        this.table = Objects.requireNonNull(table);
+    }
+
+    public void rebuild() {
+        final var scanStartedAt = System.currentTimeMillis();
+        final var rows = this.jdbcOperations.queryForObject("SELECT COUNT(*) FROM " + this.table, Long.class);
+        final var aFilter = Filter.create(Math.max(2 * (rows != null ? rows : 0), MIN_EXPECTED_IDS), scanStartedAt - GRACE.toMillis());
+
+        this.jdbcOperations.query(
+                conn -> {
+                    final var ps = conn.prepareStatement(
+                            "SELECT id FROM " + this.table,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize("MySQL".equalsIgnoreCase(conn.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : 1_000);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> aFilter.add(BinaryIdUtils.toId(rs.getBytes(1)))
+        );
+        this.filter = aFilter;
+    }
+
+    public void add(final String anId) {
+        this.filter.add(IdUtils.normalize(anId));
+    }
+
+    /**
+     * @return the ids that may exist; the others are known not to be stored
+     */
+    public <ID> List<ID> candidates(final Iterable<ID> ids, final Function<ID, String> valueOf) {
+        final var aFilter = this.filter;
+        final var candidates = new ArrayList<ID>();
+        for (final var anId : ids) {
+            final var value = IdUtils.normalize(valueOf.apply(anId));
+            if (!aFilter.isCovered(value) || aFilter.mightContain(value)) {
+                candidates.add(anId);
+            }
+        }
+        return candidates;
+    }
+
+    private static final class Filter {
+
+        private final AtomicLongArray bits;
+        private final long size;
+        private final int hashes;
+        private final long coveredUntil;
+
+        private Filter(final long size, final int hashes, final long coveredUntil) {
+            this.bits = new AtomicLongArray((int) ((size + 63) / 64));
+            this.size = size;
+            this.hashes = hashes;
+            this.coveredUntil = coveredUntil;
+        }
+
+        static Filter empty() {
+            return new Filter(64, 1, Long.MIN_VALUE);
+        }
+
+        static Filter create(final long expected, final long coveredUntil) {
+            final var size = (long) Math.ceil(-expected * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            final var hashes = Math.max(1, (int) Math.round((double) size / expected * Math.log(2)));
+            return new Filter(size, hashes, coveredUntil);
+        }
+
+        void add(final String anId) {
+            final var h = hash(anId);
+            final var h1 = mix(h);
+            final var h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < this.hashes; i++) {
+                final var bit = Math.floorMod(h1 + i * h2, this.size);
+                final var word = (int) (bit >>> 6);
+                final var mask = 1L << bit;
+                long current;
+                while (((current = this.bits.get(word)) & mask) == 0
+                        && !this.bits.compareAndSet(word, current, current | mask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        boolean mightContain(final String anId) {
+            final var h = hash(anId);
+            final var h1 = mix(h);
+            final var h2 = mix(h ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < this.hashes; i++) {
+                final var bit = Math.floorMod(h1 + i * h2, this.size);
+                if ((this.bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /*
+         * UUIDv7 ids carry their creation time in the first 48 bits; ids in any other format are
+         * never covered, so they are always checked against the database.
+         */
+        boolean isCovered(final String anId) {
+            if (anId == null || anId.length() != 32 || anId.charAt(12) != '7') {
+                return false;
+            }
+            try {
+                return Long.parseLong(anId, 0, 12, 16) < this.coveredUntil;
+            } catch (final NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static long hash(final String anId) {
+            long h = 1125899906842597L;
+            for (int i = 0; i < anId.length(); i++) {
+                h = 31 * h + anId.charAt(i);
+            }
+            return h;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+            z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
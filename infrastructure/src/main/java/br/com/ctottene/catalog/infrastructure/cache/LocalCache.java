@@ -0,0 +1,90 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/*
+ * Bounded in-process cache: entries expire after a fixed TTL and, once the size limit is reached,
+ * the least recently read entry is evicted. Callers must store values nobody else can mutate.
+ */
+public class LocalCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<K, CacheEntry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LocalCache(final String name, final int maxSize, final Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    LocalCache(final String name, final int maxSize, final Duration ttl, final LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("'maxSize' must be greater than zero");
+        }
+        this.name = Objects.requireNonNull(name);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LocalCache.this.maxSize) {
+                    LocalCache.this.evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(final K key) {
+        final var anEntry = this.entries.get(key);
+        if (anEntry == null) {
+            this.misses++;
+            return Optional.empty();
+        }
+
+        if (anEntry.expiresAt() - this.clock.getAsLong() <= 0) {
+            this.entries.remove(key);
+            this.evictions++;
+            this.misses++;
+            return Optional.empty();
+        }
+
+        this.hits++;
+        return Optional.of(anEntry.value());
+    }
+
+    public synchronized void put(final K key, final V value) {
+        this.entries.put(key, new CacheEntry<>(value, this.clock.getAsLong() + this.ttlNanos));
+    }
+
+    public synchronized void invalidate(final K key) {
+        this.entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        this.entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(this.name, this.entries.size(), this.maxSize, this.hits, this.misses, this.evictions);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * Collapses concurrent loads of the same key: the first caller runs the loader and everyone arriving
+ * while it is in flight waits for that result instead of issuing its own query. The value is shared,
+ * so callers that may mutate it must copy it. Writers call forget so that later readers start a new
+ * load instead of joining one that may have read the previous state.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    public SingleFlight(final String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    public V load(final K key, final Supplier<V> loader) {
+        final var flight = new CompletableFuture<V>();
+        final var current = this.inFlight.putIfAbsent(key, flight);
+        if (current != null) {
+            this.collapsed.incrementAndGet();
+            return await(current);
+        }
+
+        this.loads.incrementAndGet();
+        try {
+            final var value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, flight);
+        }
+    }
+
+    public void forget(final K key) {
+        this.inFlight.remove(key);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FlightStats stats() {
+        return new FlightStats(this.name, this.inFlight.size(), this.loads.get(), this.collapsed.get());
+    }
+
+    private static <V> V await(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.ctottene.catalog.infrastructure.castmember;
+
+import br.com.ctottene.catalog.domain.castmember.CastMember;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class BatchingCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway delegate;
+    private final BatchLoader<CastMemberID, CastMember> loader;
+
+    public BatchingCastMemberGateway(final CastMemberGateway delegate, final BatchLoader<CastMemberID, CastMember> loader) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        return this.delegate.create(castMember);
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        return this.delegate.createAll(castMembers);
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return this.delegate.findById(id);
+        }
+        return this.loader.load(id);
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        return this.delegate.update(castMember);
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.ctottene.catalog.infrastructure.castmember;
+
+import br.com.ctottene.catalog.domain.castmember.CastMember;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+import br.com.ctottene.catalog.infrastructure.cache.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachingCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway delegate;
+    private final LocalCache<CastMemberID, CastMember> cache;
+    private final LocalCache<CastMemberID, Boolean> notFound;
+    private final Generation generation;
+    private final SingleFlight<CastMemberID, Optional<CastMember>> flights;
+
+    public CachingCastMemberGateway(
+            final CastMemberGateway delegate,
+            final LocalCache<CastMemberID, CastMember> cache,
+            final LocalCache<CastMemberID, Boolean> notFound,
+            final Generation generation,
+            final SingleFlight<CastMemberID, Optional<CastMember>> flights
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.notFound = Objects.requireNonNull(notFound);
+        this.generation = Objects.requireNonNull(generation);
+        this.flights = Objects.requireNonNull(flights);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final var created = this.delegate.create(castMember);
+        this.generation.bump();
+        this.notFound.invalidate(created.getId());
+        this.flights.forget(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        final var created = this.delegate.createAll(castMembers);
+        this.generation.bump();
+        created.forEach(it -> {
+            this.notFound.invalidate(it.getId());
+            this.flights.forget(it.getId());
+        });
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.delegate.deleteById(id);
+        this.generation.bump();
+        this.cache.invalidate(id);
+        this.flights.forget(id);
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        final var cached = this.cache.get(id);
+        if (cached.isPresent()) {
+            return cached.map(CastMember::with);
+        }
+        if (this.notFound.get(id).isPresent()) {
+            return Optional.empty();
+        }
+
+        return this.flights.load(id, () -> load(id)).map(CastMember::with);
+    }
+
+    private Optional<CastMember> load(final CastMemberID id) {
+        final var readAt = this.generation.current();
+        final var aCastMember = this.delegate.findById(id);
+        aCastMember.ifPresentOrElse(
+                it -> this.cache.put(id, CastMember.with(it)),
+                () -> this.notFound.put(id, Boolean.TRUE)
+        );
+        // A write bumped the generation during this load, so the result may predate it
+        if (this.generation.current() != readAt) {
+            this.cache.invalidate(id);
+            this.notFound.invalidate(id);
+        }
+        return aCastMember;
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        try {
+            return this.delegate.update(castMember);
+        } finally {
+            this.generation.bump();
+            this.cache.invalidate(castMember.getId());
+            this.flights.forget(castMember.getId());
+        }
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.ctottene.catalog.infrastructure.castmember;
+
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListQueryGateway;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+
+import java.util.Objects;
+
+public class CachingCastMemberListQueryGateway implements CastMemberListQueryGateway {
+
+    private final CastMemberListQueryGateway delegate;
+    private final LocalCache<PageKey, Pagination<CastMemberListOutput>> pages;
+    private final Generation generation;
+
+    public CachingCastMemberListQueryGateway(
+            final CastMemberListQueryGateway delegate,
+            final LocalCache<PageKey, Pagination<CastMemberListOutput>> pages,
+            final Generation generation
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.pages = Objects.requireNonNull(pages);
+        this.generation = Objects.requireNonNull(generation);
+    }
+
+    @Override
+    public Pagination<CastMemberListOutput> findAll(final SearchQuery aQuery) {
+        final var aKey = new PageKey(this.generation.current(), aQuery);
+        final var cached = this.pages.get(aKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final var aPage = this.delegate.findAll(aQuery);
+        this.pages.put(aKey, aPage);
+        return aPage;
+    }
+
+    public record PageKey(long generation, SearchQuery query) {
+    }
+}
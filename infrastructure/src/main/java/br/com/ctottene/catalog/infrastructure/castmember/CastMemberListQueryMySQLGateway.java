@@ -0,0 +1,45 @@
+package br.com.ctottene.catalog.infrastructure.castmember;
+
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListQueryGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberListProjection;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+@Component
+public class CastMemberListQueryMySQLGateway implements CastMemberListQueryGateway {
+
+    private final JpaPaginator<CastMemberJpaEntity> paginator;
+
+    public CastMemberListQueryMySQLGateway(final EntityManager entityManager) {
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), CastMemberJpaEntity.class, CastMemberMySQLGateway.SORTS, "name");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CastMemberListOutput> findAll(final SearchQuery aQuery) {
+        final var where = where(Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this.paginator::search)
+                .orElse(null));
+
+        return this.paginator.findAll(where, aQuery, CastMemberListProjection.class, CastMemberListProjection.ATTRIBUTES)
+                .map(it -> new CastMemberListOutput(
+                        CastMemberID.from(it.id()),
+                        it.name(),
+                        it.type(),
+                        it.createdAt()
+                ));
+    }
+}
@@ -3,88 +3,151 @@ package br.com.ctottene.catalog.infrastructure.castmember;
 import br.com.ctottene.catalog.domain.castmember.CastMember;
 import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
 import br.com.ctottene.catalog.domain.castmember.CastMemberID;
-import br.com.ctottene.catalog.domain.category.CategoryID;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import br.com.ctottene.catalog.infrastructure.cache.IdMembershipIndex;
+import br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils;
+import br.com.ctottene.catalog.infrastructure.utils.InClauseUtils;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static br.com.ctottene.catalog.infrastructure.utils.SpecificationUtils.like;
+import java.util.concurrent.Executor;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository repository;
+    public static final Map<String, String> SORTS = Map.of(
+            "id", "id",
+            "name", "name",
+            "type", "type",
+            "createdAt", "createdAt",
+            "created_at", "createdAt"
+    );
+
+    private static final String INSERT_CAST_MEMBER = """
+            INSERT INTO cast_members (id, name, type, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
 
-    public CastMemberMySQLGateway(final CastMemberRepository repository) {
+    private final CastMemberRepository repository;
+    private final JpaPaginator<CastMemberJpaEntity> paginator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdMembershipIndex idIndex;
+    private final Executor inClauseExecutor;
+    private final int chunkSize;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository repository,
+            final EntityManager entityManager,
+            final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            @Value("${catalog.batch.chunk-size:1000}") final int chunkSize,
+            @Qualifier("inClauseExecutor") final Executor inClauseExecutor
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), CastMemberJpaEntity.class, SORTS, "name");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.idIndex = new IdMembershipIndex(jdbcTemplate, "cast_members");
+        this.inClauseExecutor = Objects.requireNonNull(inClauseExecutor);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIdIndex() {
+        this.idIndex.rebuild();
     }
 
     @Override
+    @Transactional
     public CastMember create(CastMember castMember) {
-        return save(castMember);
+        final var created = save(castMember);
+        this.idIndex.add(created.getId().getValue());
+        return created;
     }
 
     @Override
-    public void deleteById(CastMemberID id) {
-        final String idValue = id.getValue();
-        if (this.repository.existsById(idValue)) {
-            this.repository.deleteById(idValue);
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        for (int from = 0; from < castMembers.size(); from += this.chunkSize) {
+            final var chunk = castMembers.subList(from, Math.min(from + this.chunkSize, castMembers.size()));
+            this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate
+                    .batchUpdate(INSERT_CAST_MEMBER, chunk, chunk.size(), (ps, aMember) -> {
+                        ps.setBytes(1, BinaryIdUtils.toBytes(aMember.getId().getValue()));
+                        ps.setString(2, aMember.getName());
+                        ps.setString(3, aMember.getType().name());
+                        ps.setTimestamp(4, Timestamp.from(aMember.getCreatedAt()));
+                        ps.setTimestamp(5, Timestamp.from(aMember.getUpdatedAt()));
+                    }));
+            chunk.forEach(it -> this.idIndex.add(it.getId().getValue()));
         }
+        return castMembers;
     }
 
     @Override
+    @Transactional
+    public void deleteById(CastMemberID id) {
+        this.repository.deleteOneById(id.getValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<CastMember> findById(final CastMemberID id) {
         return this.repository.findById(id.getValue())
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Transactional(readOnly = true)
+    public List<CastMember> findAllById(final List<CastMemberID> ids) {
+        return this.repository.findAllById(ids.stream().map(CastMemberID::getValue).toList()).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
+    @Transactional
     public CastMember update(final CastMember castMember) {
-        return save(castMember);
+        this.repository.update(CastMemberJpaEntity.from(castMember));
+        return castMember;
     }
 
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDs) {
-        /*final var ids = StreamSupport.stream(castMemberIDs.spliterator(), false)
+        final var ids = this.idIndex.candidates(castMemberIDs, CastMemberID::getValue).stream()
                 .map(CastMemberID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream()
+        return InClauseUtils.selectInChunks(ids, this.repository::existsByIds, this.inClauseExecutor).stream()
                 .map(CastMemberID::from)
-                .toList();*/
-        throw new UnsupportedOperationException();
+                .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Direction.fromString(query.direction()), query.sort())
-        );
-        final var where = Optional.ofNullable(query.terms())
+        final var where = Specification.where(Optional.ofNullable(query.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
-                .orElse(null);
+                .orElse(null));
 
-        final var pageResult = this.repository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        return this.paginator.findAll(where, query)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     private CastMember save(final CastMember castMember) {
@@ -92,6 +155,6 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String str) {
-        return like("name", str);
+        return this.paginator.search(str);
     }
 }
@@ -3,15 +3,19 @@ package br.com.ctottene.catalog.infrastructure.castmember.persistence;
 import br.com.ctottene.catalog.domain.castmember.CastMember;
 import br.com.ctottene.catalog.domain.castmember.CastMemberID;
 import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.infrastructure.configuration.BinaryIdType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -27,6 +31,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public CastMemberJpaEntity() {
     }
 
@@ -70,6 +77,17 @@ public class CastMemberJpaEntity {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public CastMemberJpaEntity setId(String id) {
         this.id = id;
         return this;
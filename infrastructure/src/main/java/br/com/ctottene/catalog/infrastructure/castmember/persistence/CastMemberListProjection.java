@@ -0,0 +1,15 @@
+package br.com.ctottene.catalog.infrastructure.castmember.persistence;
+
+import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+
+import java.time.Instant;
+
+public record CastMemberListProjection(
+        String id,
+        String name,
+        CastMemberType type,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static final String[] ATTRIBUTES = {"id", "name", "type", "createdAt", "updatedAt"};
+}
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +15,17 @@ public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity,
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> whereClause, Pageable page);
 
-    @Query(value = "select c.id from CastMember óc where c.id in :ids")
+    @Query(value = "select c.id from CastMember c where c.id in :ids")
     Collection<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update CastMember c
+               set c.name = :#{#entity.name}, c.type = :#{#entity.type}, c.updatedAt = :#{#entity.updatedAt}
+             where c.id = :#{#entity.id}""")
+    int update(@Param("entity") CastMemberJpaEntity entity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CastMember c where c.id = :id")
+    int deleteOneById(@Param("id") String id);
 }
@@ -0,0 +1,72 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * Resolves findById calls from concurrent requests together, with one IN query per batch instead of
+ * one query and one pooled connection per id. Inside a transaction the call goes straight to the
+ * delegate, because the loader threads cannot see rows the caller has not committed yet.
+ */
+public class BatchingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final BatchLoader<CategoryID, Category> loader;
+
+    public BatchingCategoryGateway(final CategoryGateway delegate, final BatchLoader<CategoryID, Category> loader) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        this.delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return this.delegate.findById(anId);
+        }
+        return this.loader.load(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
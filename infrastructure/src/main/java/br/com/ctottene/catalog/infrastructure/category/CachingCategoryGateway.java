@@ -0,0 +1,134 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+import br.com.ctottene.catalog.infrastructure.cache.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/*
+ * Read-through cache for findById. The cache only ever holds private copies, so callers are free
+ * to mutate whatever they receive. Misses are remembered for a short while as well, so repeated
+ * lookups of deleted ids stop reaching the database; creating the id clears that entry. Concurrent
+ * misses for the same id share a single load, and each caller still gets its own copy. afterDelete
+ * runs once rows are gone, for caches of other aggregates the database cascade has changed.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final LocalCache<CategoryID, Category> cache;
+    private final LocalCache<CategoryID, Boolean> notFound;
+    private final Generation generation;
+    private final SingleFlight<CategoryID, Optional<Category>> flights;
+    private final Runnable afterDelete;
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final LocalCache<CategoryID, Category> cache,
+            final LocalCache<CategoryID, Boolean> notFound,
+            final Generation generation,
+            final SingleFlight<CategoryID, Optional<Category>> flights,
+            final Runnable afterDelete
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.notFound = Objects.requireNonNull(notFound);
+        this.generation = Objects.requireNonNull(generation);
+        this.flights = Objects.requireNonNull(flights);
+        this.afterDelete = Objects.requireNonNull(afterDelete);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        this.generation.bump();
+        this.notFound.invalidate(created.getId());
+        this.flights.forget(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.delegate.createAll(categories);
+        this.generation.bump();
+        created.forEach(it -> {
+            this.notFound.invalidate(it.getId());
+            this.flights.forget(it.getId());
+        });
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        this.generation.bump();
+        this.cache.invalidate(anId);
+        this.flights.forget(anId);
+        this.afterDelete.run();
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        this.delegate.deleteAllById(ids);
+        this.generation.bump();
+        ids.forEach(this.cache::invalidate);
+        ids.forEach(this.flights::forget);
+        this.afterDelete.run();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var cached = this.cache.get(anId);
+        if (cached.isPresent()) {
+            return cached.map(Category::with);
+        }
+        if (this.notFound.get(anId).isPresent()) {
+            return Optional.empty();
+        }
+
+        return this.flights.load(anId, () -> load(anId)).map(Category::with);
+    }
+
+    private Optional<Category> load(final CategoryID anId) {
+        final var readAt = this.generation.current();
+        final var aCategory = this.delegate.findById(anId);
+        aCategory.ifPresentOrElse(
+                it -> this.cache.put(anId, Category.with(it)),
+                () -> this.notFound.put(anId, Boolean.TRUE)
+        );
+        // A write bumped the generation during this load, so the result may predate it
+        if (this.generation.current() != readAt) {
+            this.cache.invalidate(anId);
+            this.notFound.invalidate(anId);
+        }
+        return aCategory;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.delegate.update(aCategory);
+        } finally {
+            this.generation.bump();
+            this.cache.invalidate(aCategory.getId());
+            this.flights.forget(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListOutput;
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListQueryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryListProjection;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+@Component
+public class CategoryListQueryMySQLGateway implements CategoryListQueryGateway {
+
+    private final JpaPaginator<CategoryJpaEntity> paginator;
+
+    public CategoryListQueryMySQLGateway(final EntityManager entityManager) {
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), CategoryJpaEntity.class, CategoryMySQLGateway.SORTS, "name", "description");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategoryListOutput> findAll(final SearchQuery aQuery) {
+        final var where = where(Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this.paginator::search)
+                .orElse(null));
+
+        return this.paginator.findAll(where, aQuery, CategoryListProjection.class, CategoryListProjection.ATTRIBUTES)
+                .map(it -> new CategoryListOutput(
+                        CategoryID.from(it.id()),
+                        it.name(),
+                        it.description(),
+                        it.active(),
+                        it.createdAt(),
+                        it.updatedAt(),
+                        it.deletedAt()
+                ));
+    }
+}
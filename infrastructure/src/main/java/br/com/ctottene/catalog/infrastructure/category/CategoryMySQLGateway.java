@@ -7,80 +7,164 @@ import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import br.com.ctottene.catalog.infrastructure.cache.IdMembershipIndex;
+import br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils;
+import br.com.ctottene.catalog.infrastructure.utils.InClauseUtils;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static br.com.ctottene.catalog.infrastructure.utils.SpecificationUtils.like;
+import java.util.concurrent.Executor;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    public static final Map<String, String> SORTS = Map.of(
+            "id", "id",
+            "name", "name",
+            "createdAt", "createdAt",
+            "created_at", "createdAt"
+    );
+
+    private static final String INSERT_CATEGORY = """
+            INSERT INTO categories (id, name, description, active, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private static final String DELETE_CATEGORIES = "DELETE FROM categories WHERE id IN (:ids)";
+
+    private final CategoryRepository repository;
+    private final JpaPaginator<CategoryJpaEntity> paginator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdMembershipIndex idIndex;
+    private final Executor inClauseExecutor;
+    private final int chunkSize;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager transactionManager,
+            @Value("${catalog.batch.chunk-size:1000}") final int chunkSize,
+            @Qualifier("inClauseExecutor") final Executor inClauseExecutor
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), CategoryJpaEntity.class, SORTS, "name", "description");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.idIndex = new IdMembershipIndex(jdbcTemplate.getJdbcOperations(), "categories");
+        this.inClauseExecutor = Objects.requireNonNull(inClauseExecutor);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIdIndex() {
+        this.idIndex.rebuild();
     }
 
     @Override
+    @Transactional
     public Category create(Category aCategory) {
-        return save(aCategory);
+        final var created = save(aCategory);
+        this.idIndex.add(created.getId().getValue());
+        return created;
     }
 
     @Override
-    public void deleteById(CategoryID anId) {
-        final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+    public List<Category> createAll(final List<Category> categories) {
+        for (int from = 0; from < categories.size(); from += this.chunkSize) {
+            final var chunk = categories.subList(from, Math.min(from + this.chunkSize, categories.size()));
+            this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.getJdbcOperations()
+                    .batchUpdate(INSERT_CATEGORY, chunk, chunk.size(), (ps, aCategory) -> {
+                        ps.setBytes(1, BinaryIdUtils.toBytes(aCategory.getId().getValue()));
+                        ps.setString(2, aCategory.getName());
+                        ps.setString(3, aCategory.getDescription());
+                        ps.setBoolean(4, aCategory.isActive());
+                        ps.setTimestamp(5, Timestamp.from(aCategory.getCreatedAt()));
+                        ps.setTimestamp(6, Timestamp.from(aCategory.getUpdatedAt()));
+                        ps.setTimestamp(7, aCategory.getDeletedAt() != null ? Timestamp.from(aCategory.getDeletedAt()) : null);
+                    }));
+            chunk.forEach(it -> this.idIndex.add(it.getId().getValue()));
         }
+        return categories;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(CategoryID anId) {
+        this.repository.deleteOneById(anId.getValue());
     }
 
     @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        final var values = ids.stream()
+                .map(CategoryID::getValue)
+                .distinct()
+                .map(BinaryIdUtils::toBytes)
+                .toList();
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < values.size(); from += InClauseUtils.CHUNK_SIZE) {
+                final var chunk = values.subList(from, Math.min(from + InClauseUtils.CHUNK_SIZE, values.size()));
+                this.jdbcTemplate.update(DELETE_CATEGORIES, Map.of("ids", chunk));
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(final CategoryID anId) {
         return this.repository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Transactional(readOnly = true)
+    public List<Category> findAllById(final List<CategoryID> ids) {
+        return this.repository.findAllById(ids.stream().map(CategoryID::getValue).toList()).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        this.repository.update(CategoryJpaEntity.from(aCategory));
+        return aCategory;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var specifications = Optional.ofNullable(aQuery.terms())
+        final var specifications = Specification.where(Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+                .orElse(null));
+
+        return this.paginator.findAll(specifications, aQuery)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
-        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+        final var ids = this.idIndex.candidates(categoryIDs, CategoryID::getValue).stream()
                 .map(CategoryID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream()
+        return InClauseUtils.selectInChunks(ids, this.repository::existsByIds, this.inClauseExecutor).stream()
                 .map(CategoryID::from)
                 .toList();
     }
@@ -90,8 +174,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+        return this.paginator.search(str);
     }
 }
@@ -2,18 +2,26 @@ package br.com.ctottene.catalog.infrastructure.category.persistence;
 
 import br.com.ctottene.catalog.domain.category.Category;
 import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.infrastructure.configuration.BinaryIdType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity(name = "Category")
 @Table(name = "categories")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(nullable = false)
@@ -33,6 +41,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public CategoryJpaEntity() {}
 
     public CategoryJpaEntity(
@@ -81,6 +92,17 @@ public class CategoryJpaEntity {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
@@ -0,0 +1,15 @@
+package br.com.ctottene.catalog.infrastructure.category.persistence;
+
+import java.time.Instant;
+
+public record CategoryListProjection(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+    public static final String[] ATTRIBUTES = {"id", "name", "description", "active", "createdAt", "updatedAt", "deletedAt"};
+}
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,4 +17,16 @@ public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, Str
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     Collection<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update Category c
+               set c.name = :#{#entity.name}, c.description = :#{#entity.description}, c.active = :#{#entity.active},
+                   c.updatedAt = :#{#entity.updatedAt}, c.deletedAt = :#{#entity.deletedAt}
+             where c.id = :#{#entity.id}""")
+    int update(@Param("entity") CategoryJpaEntity entity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from Category c where c.id = :id")
+    int deleteOneById(@Param("id") String id);
 }
@@ -0,0 +1,13 @@
+package br.com.ctottene.catalog.infrastructure.configuration;
+
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.service.ServiceRegistry;
+
+public class BinaryIdTypeContributor implements TypeContributor {
+
+    @Override
+    public void contribute(final TypeContributions typeContributions, final ServiceRegistry serviceRegistry) {
+        typeContributions.contributeType(new BinaryIdType());
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.ctottene.catalog.infrastructure.configuration;
+
+import br.com.ctottene.catalog.infrastructure.api.limits.AdaptiveLimit;
+import br.com.ctottene.catalog.infrastructure.api.limits.ConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.web.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(
+            @Value("${catalog.web.concurrency-limit.reads.initial-limit:20}") final int readsInitialLimit,
+            @Value("${catalog.web.concurrency-limit.reads.min-limit:4}") final int readsMinLimit,
+            @Value("${catalog.web.concurrency-limit.reads.max-limit:64}") final int readsMaxLimit,
+            @Value("${catalog.web.concurrency-limit.writes.initial-limit:10}") final int writesInitialLimit,
+            @Value("${catalog.web.concurrency-limit.writes.min-limit:2}") final int writesMinLimit,
+            @Value("${catalog.web.concurrency-limit.writes.max-limit:32}") final int writesMaxLimit,
+            @Value("${catalog.web.concurrency-limit.retry-after:1s}") final Duration retryAfter
+    ) {
+        this.interceptor = new ConcurrencyLimitInterceptor(
+                new AdaptiveLimit("reads", readsInitialLimit, readsMinLimit, readsMaxLimit),
+                new AdaptiveLimit("writes", writesInitialLimit, writesMinLimit, writesMaxLimit),
+                retryAfter
+        );
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(this.interceptor);
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.ctottene.catalog.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+ * Every thread pool of the application is a bean, so all of them are bounded (threads and queue) and
+ * shut down with the context. Boot only auto-configures applicationTaskExecutor while no other Executor bean exists,
+ * hence it is declared here the same way the auto-configuration does; its bounds come from
+ * spring.task.execution.pool.* in application.yml.
+ */
+@Configuration
+public class ExecutorsConfig {
+
+    @Lazy
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(final TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // Each running import keeps at most queue-capacity batches ahead of its writer; past that the
+    // request thread validates its own batch, which slows down its parsing.
+    @Bean
+    public ThreadPoolTaskExecutor importValidatorExecutor(
+            @Value("${catalog.import.parallelism:4}") final int parallelism,
+            @Value("${catalog.import.queue-capacity:8}") final int queueCapacity,
+            @Value("${catalog.import.max-concurrent:4}") final int maxConcurrent
+    ) {
+        return fixed("import-validator-", parallelism, maxConcurrent * queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // Each running import holds one writer thread, so this also bounds simultaneous imports. Up to
+    // max-queued more wait for a writer; any further import is rejected (503) before reading its body.
+    @Bean
+    public ThreadPoolTaskExecutor importWriterExecutor(
+            @Value("${catalog.import.max-concurrent:4}") final int maxConcurrent,
+            @Value("${catalog.import.max-queued:4}") final int maxQueued
+    ) {
+        return fixed("import-writer-", maxConcurrent, maxQueued, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Runs the association checks of the async create use cases, then their write. Past the queue the
+    // create is rejected (503) instead of piling up behind the checks already running.
+    @Bean
+    public ThreadPoolTaskExecutor associationCheckExecutor(
+            @Value("${catalog.validation.parallelism:4}") final int parallelism,
+            @Value("${catalog.validation.queue-capacity:64}") final int queueCapacity
+    ) {
+        return fixed("association-check-", parallelism, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Runs the IN-clause chunks of existsByIds. It has no queue: when every thread is busy the caller
+    // runs the chunk itself.
+    @Bean
+    public ThreadPoolTaskExecutor inClauseExecutor(
+            @Value("${catalog.batch.in-clause-parallelism:4}") final int parallelism
+    ) {
+        return fixed("in-clause-", parallelism, 0, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // Closes BatchLoader windows and runs the batches it closes, so its size bounds concurrent batch loads.
+    @Bean
+    public ThreadPoolTaskScheduler batchLoaderScheduler(
+            @Value("${catalog.cache.batch-threads:4}") final int threads
+    ) {
+        final var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("batch-loader-");
+        scheduler.setPoolSize(threads);
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+
+    private static ThreadPoolTaskExecutor fixed(
+            final String prefix,
+            final int threads,
+            final int queueCapacity,
+            final RejectedExecutionHandler whenFull
+    ) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(whenFull);
+        executor.setDaemon(true);
+        return executor;
+    }
+}
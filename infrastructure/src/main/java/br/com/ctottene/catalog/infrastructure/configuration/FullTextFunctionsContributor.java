@@ -0,0 +1,32 @@
+package br.com.ctottene.catalog.infrastructure.configuration;
+
+import br.com.ctottene.catalog.infrastructure.utils.SpecificationUtils;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class FullTextFunctionsContributor implements MetadataBuilderContributor {
+
+    private static final int MAX_COLUMNS = 3;
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        for (int columns = 1; columns <= MAX_COLUMNS; columns++) {
+            final var columnArgs = IntStream.rangeClosed(1, columns)
+                    .mapToObj(i -> "?" + i)
+                    .collect(Collectors.joining(", "));
+
+            metadataBuilder.applySqlFunction(
+                    SpecificationUtils.MATCH_AGAINST + columns,
+                    new SQLFunctionTemplate(
+                            StandardBasicTypes.DOUBLE,
+                            "MATCH(%s) AGAINST (?%d IN BOOLEAN MODE)".formatted(columnArgs, columns + 1)
+                    )
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.ctottene.catalog.infrastructure.configuration;
+
+import br.com.ctottene.catalog.infrastructure.configuration.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Servlet requests run on one virtual thread each instead of the Undertow worker pool. Blocking on
+ * JDBC then costs no platform thread, so the number of in-flight requests is bounded by the
+ * connection limiter rather than by server.undertow.threads.worker.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.web.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsCustomizer() {
+        final var executor = newVirtualThreadPerTaskExecutor();
+        return factory -> factory.addDeploymentInfoCustomizers(deployment -> deployment
+                .setExecutor(executor)
+                .setAsyncExecutor(executor));
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter(
+            @Value("${catalog.web.virtual-threads.connection-wait:30s}") final Duration connectionWait
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), connectionWait);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Class files target 17, where the factory method does not exist yet.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException("catalog.web.virtual-threads.enabled requires a Java 21+ runtime", e);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create the virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.ctottene.catalog.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction managers fetch the
+ * connection before the read-only flag is bound to the current thread.
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final boolean fallbackToPrimary;
+
+    public ReadOnlyRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final boolean fallbackToPrimary
+    ) {
+        this.primary = Objects.requireNonNull(primary);
+        this.fallbackToPrimary = fallbackToPrimary;
+
+        setTargetDataSources(Map.of(
+                Route.PRIMARY, primary,
+                Route.REPLICA, Objects.requireNonNull(replica)
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (final SQLException | RuntimeException e) {
+            if (this.fallbackToPrimary && determineCurrentLookupKey() == Route.REPLICA) {
+                return this.primary.getConnection();
+            }
+            throw e;
+        }
+    }
+}
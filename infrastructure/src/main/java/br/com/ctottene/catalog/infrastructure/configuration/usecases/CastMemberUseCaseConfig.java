@@ -6,44 +6,118 @@ import br.com.ctottene.catalog.application.castmember.delete.DefaultDeleteCastMe
 import br.com.ctottene.catalog.application.castmember.delete.DeleteCastMemberUseCase;
 import br.com.ctottene.catalog.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
 import br.com.ctottene.catalog.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListQueryGateway;
 import br.com.ctottene.catalog.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import br.com.ctottene.catalog.application.castmember.retrieve.list.ListCastMembersUseCase;
 import br.com.ctottene.catalog.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import br.com.ctottene.catalog.application.castmember.update.UpdateCastMemberUseCase;
+import br.com.ctottene.catalog.domain.castmember.CastMember;
 import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import br.com.ctottene.catalog.infrastructure.cache.CacheRegistry;
+import br.com.ctottene.catalog.infrastructure.castmember.BatchingCastMemberGateway;
+import br.com.ctottene.catalog.infrastructure.castmember.CachingCastMemberGateway;
+import br.com.ctottene.catalog.infrastructure.castmember.CachingCastMemberListQueryGateway;
+import br.com.ctottene.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.TaskScheduler;
 
-import java.util.Objects;
+import java.time.Duration;
 
 @Configuration
 public class CastMemberUseCaseConfig {
 
     private final CastMemberGateway castMemberGateway;
 
-    public CastMemberUseCaseConfig(CastMemberGateway genreGateway) {
-        this.castMemberGateway = Objects.requireNonNull(genreGateway);
+    private final CacheRegistry cacheRegistry;
+
+    private final int listCacheMaxSize;
+
+    private final Duration listMaxStaleness;
+
+    public CastMemberUseCaseConfig(
+            final CastMemberMySQLGateway castMemberGateway,
+            final CacheRegistry cacheRegistry,
+            @Value("${catalog.cache.cast-members.max-size:10000}") final int cacheMaxSize,
+            @Value("${catalog.cache.cast-members.ttl:5m}") final Duration cacheTtl,
+            @Value("${catalog.cache.cast-members.not-found-ttl:30s}") final Duration notFoundTtl,
+            @Value("${catalog.cache.cast-members.list-max-size:1000}") final int listCacheMaxSize,
+            @Value("${catalog.cache.cast-members.list-max-staleness:10s}") final Duration listMaxStaleness,
+            @Value("${catalog.cache.cast-members.batch-window:2ms}") final Duration batchWindow,
+            @Value("${catalog.cache.cast-members.batch-max-keys:64}") final int batchMaxKeys,
+            @Qualifier("batchLoaderScheduler") final TaskScheduler batchScheduler
+    ) {
+        this.castMemberGateway = new CachingCastMemberGateway(
+                batching(castMemberGateway, batchWindow, batchMaxKeys, batchScheduler),
+                cacheRegistry.cache("cast_members", cacheMaxSize, cacheTtl),
+                cacheRegistry.cache("cast_members.not_found", cacheMaxSize, notFoundTtl),
+                cacheRegistry.generation("cast_members"),
+                cacheRegistry.singleFlight("cast_members")
+        );
+        this.cacheRegistry = cacheRegistry;
+        this.listCacheMaxSize = listCacheMaxSize;
+        this.listMaxStaleness = listMaxStaleness;
+    }
+
+    // The gateway injected everywhere else (imports, videos), so writes that skip the use cases
+    // still bump the generation the cached list pages are keyed by.
+    @Bean
+    @Primary
+    public CastMemberGateway castMemberGateway() {
+        return castMemberGateway;
     }
 
     @Bean
     public CreateCastMemberUseCase createCastMemberUseCase() {
-        return new DefaultCreateCastMemberUseCase(castMemberGateway);
+        return new DefaultCreateCastMemberUseCase(castMemberGateway());
     }
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
-        return new DefaultUpdateCastMemberUseCase(castMemberGateway);
+        return new DefaultUpdateCastMemberUseCase(castMemberGateway());
     }
 
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
-        return new DefaultDeleteCastMemberUseCase(castMemberGateway);
+        return new DefaultDeleteCastMemberUseCase(castMemberGateway());
     }
     @Bean
     public GetCastMemberByIdUseCase getCastMemberByIdUseCase() {
-        return new DefaultGetCastMemberByIdUseCase(castMemberGateway);
+        return new DefaultGetCastMemberByIdUseCase(castMemberGateway());
     }
     @Bean
-    public ListCastMembersUseCase listCastMembersUseCase() {
-        return new DefaultListCastMembersUseCase(castMemberGateway);
+    public ListCastMembersUseCase listCastMembersUseCase(final CastMemberListQueryGateway castMemberListQueryGateway) {
+        if (listMaxStaleness.isZero()) {
+            return new DefaultListCastMembersUseCase(castMemberListQueryGateway);
+        }
+        return new DefaultListCastMembersUseCase(new CachingCastMemberListQueryGateway(
+                castMemberListQueryGateway,
+                cacheRegistry.cache("cast_members.pages", listCacheMaxSize, listMaxStaleness),
+                cacheRegistry.generation("cast_members")
+        ));
+    }
+
+    private static CastMemberGateway batching(
+            final CastMemberMySQLGateway castMemberGateway,
+            final Duration window,
+            final int maxKeys,
+            final TaskScheduler scheduler
+    ) {
+        if (window.isZero()) {
+            return castMemberGateway;
+        }
+        final var loader = new BatchLoader<CastMemberID, CastMember>(
+                castMemberGateway::findAllById,
+                CastMember::getId,
+                anId -> CastMemberID.from(anId.getValue()),
+                window,
+                maxKeys,
+                scheduler
+        );
+        return new BatchingCastMemberGateway(castMemberGateway, loader);
     }
 }
@@ -1,47 +1,139 @@
 package br.com.ctottene.catalog.infrastructure.configuration.usecases;
 
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryUseCase;
+import br.com.ctottene.catalog.application.category.create.DefaultCreateCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import br.com.ctottene.catalog.application.category.delete.DefaultDeleteCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import br.com.ctottene.catalog.application.category.delete.DeleteCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.delete.DeleteCategoryUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListQueryGateway;
 import br.com.ctottene.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import br.com.ctottene.catalog.application.category.update.UpdateCategoryUseCase;
+import br.com.ctottene.catalog.domain.category.Category;
 import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import br.com.ctottene.catalog.infrastructure.cache.CacheRegistry;
+import br.com.ctottene.catalog.infrastructure.category.BatchingCategoryGateway;
+import br.com.ctottene.catalog.infrastructure.category.CachingCategoryGateway;
+import br.com.ctottene.catalog.infrastructure.category.CachingCategoryListQueryGateway;
+import br.com.ctottene.catalog.infrastructure.category.CategoryMySQLGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
 
 @Configuration
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
 
-    public CategoryUseCaseConfig(CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    private final CacheRegistry cacheRegistry;
+
+    private final int listCacheMaxSize;
+
+    private final Duration listMaxStaleness;
+
+    public CategoryUseCaseConfig(
+            final CategoryMySQLGateway categoryGateway,
+            final CacheRegistry cacheRegistry,
+            @Value("${catalog.cache.categories.max-size:10000}") final int cacheMaxSize,
+            @Value("${catalog.cache.categories.ttl:5m}") final Duration cacheTtl,
+            @Value("${catalog.cache.categories.not-found-ttl:30s}") final Duration notFoundTtl,
+            @Value("${catalog.cache.categories.list-max-size:1000}") final int listCacheMaxSize,
+            @Value("${catalog.cache.categories.list-max-staleness:10s}") final Duration listMaxStaleness,
+            @Value("${catalog.cache.categories.batch-window:2ms}") final Duration batchWindow,
+            @Value("${catalog.cache.categories.batch-max-keys:64}") final int batchMaxKeys,
+            @Qualifier("batchLoaderScheduler") final TaskScheduler batchScheduler
+    ) {
+        this.categoryGateway = new CachingCategoryGateway(
+                batching(categoryGateway, batchWindow, batchMaxKeys, batchScheduler),
+                cacheRegistry.cache("categories", cacheMaxSize, cacheTtl),
+                cacheRegistry.cache("categories.not_found", cacheMaxSize, notFoundTtl),
+                cacheRegistry.generation("categories"),
+                cacheRegistry.singleFlight("categories"),
+                // genres_categories rows go with the category (ON DELETE CASCADE), changing cached genres
+                () -> cacheRegistry.invalidateAll("genres")
+        );
+        this.cacheRegistry = cacheRegistry;
+        this.listCacheMaxSize = listCacheMaxSize;
+        this.listMaxStaleness = listMaxStaleness;
+    }
+
+    // The gateway injected everywhere else (imports, genres, videos), so writes that skip the use cases
+    // still bump the generation the cached list pages are keyed by.
+    @Bean
+    @Primary
+    public CategoryGateway categoryGateway() {
+        return categoryGateway;
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return new DefaultCreateCategoryUseCase(categoryGateway());
     }
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        return new DefaultUpdateCategoryUseCase(categoryGateway());
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return new DefaultDeleteCategoryUseCase(categoryGateway());
     }
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return new DefaultGetCategoryByIdUseCase(categoryGateway());
     }
     @Bean
-    public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+    public ListCategoriesUseCase listCategoriesUseCase(final CategoryListQueryGateway categoryListQueryGateway) {
+        if (listMaxStaleness.isZero()) {
+            return new DefaultListCategoriesUseCase(categoryListQueryGateway);
+        }
+        return new DefaultListCategoriesUseCase(new CachingCategoryListQueryGateway(
+                categoryListQueryGateway,
+                cacheRegistry.cache("categories.pages", listCacheMaxSize, listMaxStaleness),
+                cacheRegistry.generation("categories")
+        ));
+    }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway());
+    }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway());
+    }
+
+    private static CategoryGateway batching(
+            final CategoryMySQLGateway categoryGateway,
+            final Duration window,
+            final int maxKeys,
+            final TaskScheduler scheduler
+    ) {
+        if (window.isZero()) {
+            return categoryGateway;
+        }
+        final var loader = new BatchLoader<CategoryID, Category>(
+                categoryGateway::findAllById,
+                Category::getId,
+                anId -> CategoryID.from(anId.getValue()),
+                window,
+                maxKeys,
+                scheduler
+        );
+        return new BatchingCategoryGateway(categoryGateway, loader);
     }
 }
@@ -6,15 +6,28 @@ import br.com.ctottene.catalog.application.genre.delete.DefaultDeleteGenreUseCas
 import br.com.ctottene.catalog.application.genre.delete.DeleteGenreUseCase;
 import br.com.ctottene.catalog.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import br.com.ctottene.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListQueryGateway;
 import br.com.ctottene.catalog.application.genre.retrieve.list.DefaultListGenresUseCase;
 import br.com.ctottene.catalog.application.genre.retrieve.list.ListGenresUseCase;
 import br.com.ctottene.catalog.application.genre.update.DefaultUpdateGenreUseCase;
 import br.com.ctottene.catalog.application.genre.update.UpdateGenreUseCase;
 import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.genre.Genre;
 import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import br.com.ctottene.catalog.infrastructure.cache.CacheRegistry;
+import br.com.ctottene.catalog.infrastructure.genre.BatchingGenreGateway;
+import br.com.ctottene.catalog.infrastructure.genre.CachingGenreGateway;
+import br.com.ctottene.catalog.infrastructure.genre.CachingGenreListQueryGateway;
+import br.com.ctottene.catalog.infrastructure.genre.GenreMySQLGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
@@ -24,9 +37,36 @@ public class GenreUseCaseConfig {
 
     private final GenreGateway genreGateway;
 
-    public GenreUseCaseConfig(GenreGateway genreGateway, CategoryGateway categoryGateway) {
+    private final CacheRegistry cacheRegistry;
+
+    private final int listCacheMaxSize;
+
+    private final Duration listMaxStaleness;
+
+    public GenreUseCaseConfig(
+            final GenreMySQLGateway genreGateway,
+            final CategoryGateway categoryGateway,
+            final CacheRegistry cacheRegistry,
+            @Value("${catalog.cache.genres.max-size:10000}") final int cacheMaxSize,
+            @Value("${catalog.cache.genres.ttl:5m}") final Duration cacheTtl,
+            @Value("${catalog.cache.genres.not-found-ttl:30s}") final Duration notFoundTtl,
+            @Value("${catalog.cache.genres.list-max-size:1000}") final int listCacheMaxSize,
+            @Value("${catalog.cache.genres.list-max-staleness:10s}") final Duration listMaxStaleness,
+            @Value("${catalog.cache.genres.batch-window:2ms}") final Duration batchWindow,
+            @Value("${catalog.cache.genres.batch-max-keys:64}") final int batchMaxKeys,
+            @Qualifier("batchLoaderScheduler") final TaskScheduler batchScheduler
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.genreGateway = new CachingGenreGateway(
+                batching(genreGateway, batchWindow, batchMaxKeys, batchScheduler),
+                cacheRegistry.cache("genres", cacheMaxSize, cacheTtl),
+                cacheRegistry.cache("genres.not_found", cacheMaxSize, notFoundTtl),
+                cacheRegistry.generation("genres"),
+                cacheRegistry.singleFlight("genres")
+        );
+        this.cacheRegistry = cacheRegistry;
+        this.listCacheMaxSize = listCacheMaxSize;
+        this.listMaxStaleness = listMaxStaleness;
     }
 
     @Bean
@@ -47,7 +87,34 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
     @Bean
-    public ListGenresUseCase listGenresUseCase() {
-        return new DefaultListGenresUseCase(genreGateway);
+    public ListGenresUseCase listGenresUseCase(final GenreListQueryGateway genreListQueryGateway) {
+        if (listMaxStaleness.isZero()) {
+            return new DefaultListGenresUseCase(genreListQueryGateway);
+        }
+        return new DefaultListGenresUseCase(new CachingGenreListQueryGateway(
+                genreListQueryGateway,
+                cacheRegistry.cache("genres.pages", listCacheMaxSize, listMaxStaleness),
+                cacheRegistry.generation("genres")
+        ));
+    }
+
+    private static GenreGateway batching(
+            final GenreMySQLGateway genreGateway,
+            final Duration window,
+            final int maxKeys,
+            final TaskScheduler scheduler
+    ) {
+        if (window.isZero()) {
+            return genreGateway;
+        }
+        final var loader = new BatchLoader<GenreID, Genre>(
+                genreGateway::findAllById,
+                Genre::getId,
+                anId -> GenreID.from(anId.getValue()),
+                window,
+                maxKeys,
+                scheduler
+        );
+        return new BatchingGenreGateway(genreGateway, loader);
     }
 }
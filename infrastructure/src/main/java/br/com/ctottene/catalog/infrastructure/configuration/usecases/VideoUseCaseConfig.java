@@ -0,0 +1,48 @@
+package br.com.ctottene.catalog.infrastructure.configuration.usecases;
+
+import br.com.ctottene.catalog.application.video.create.CreateVideoAsyncUseCase;
+import br.com.ctottene.catalog.application.video.create.CreateVideoUseCase;
+import br.com.ctottene.catalog.application.video.create.DefaultCreateVideoAsyncUseCase;
+import br.com.ctottene.catalog.application.video.create.DefaultCreateVideoUseCase;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.video.VideoGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class VideoUseCaseConfig {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final VideoGateway videoGateway;
+
+    public VideoUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase() {
+        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, videoGateway);
+    }
+
+    // No video endpoint exists yet; the REST layer should take this one over the sync use case once it does
+    @Bean
+    public CreateVideoAsyncUseCase createVideoAsyncUseCase(@Qualifier("associationCheckExecutor") final Executor executor) {
+        return new DefaultCreateVideoAsyncUseCase(categoryGateway, castMemberGateway, genreGateway, videoGateway, executor);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.ctottene.catalog.infrastructure.export;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ExportAggregate {
+    CATEGORIES("categories"),
+    GENRES("genres"),
+    CAST_MEMBERS("cast_members");
+
+    private final String label;
+
+    ExportAggregate(final String label) {
+        this.label = label;
+    }
+
+    public static Optional<ExportAggregate> of(final String label) {
+        return Arrays.stream(ExportAggregate.values())
+                .filter(it -> it.label.equalsIgnoreCase(label))
+                .findFirst();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
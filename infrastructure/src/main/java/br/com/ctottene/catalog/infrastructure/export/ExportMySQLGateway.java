@@ -0,0 +1,231 @@
+package br.com.ctottene.catalog.infrastructure.export;
+
+import br.com.ctottene.catalog.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+
+import static br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils.toId;
+
+@Component
+public class ExportMySQLGateway {
+
+    private static final String SELECT_CATEGORIES = """
+            SELECT id, name, description, active, created_at, updated_at, deleted_at
+              FROM categories
+             WHERE updated_at >= ?
+             ORDER BY id
+            """;
+
+    private static final String SELECT_GENRES = """
+            SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, gc.category_id
+              FROM genres g
+              LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+             WHERE g.updated_at >= ?
+             ORDER BY g.id
+            """;
+
+    private static final String SELECT_CAST_MEMBERS = """
+            SELECT id, name, type, created_at, updated_at
+              FROM cast_members
+             WHERE updated_at >= ?
+             ORDER BY id
+            """;
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean mySQL;
+
+    public ExportMySQLGateway(final DataSource dataSource, final PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource));
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public long export(final ExportAggregate anAggregate, final Instant since, final OutputStream out) {
+        final var from = Timestamp.from(since != null ? since : Instant.EPOCH);
+
+        try (final var generator = Json.mapper().getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            final Long count = this.transactionTemplate.execute(status -> {
+                applyFetchSize();
+                final var writer = switch (anAggregate) {
+                    case CATEGORIES -> new CategoryWriter(generator);
+                    case GENRES -> new GenreWriter(generator);
+                    case CAST_MEMBERS -> new CastMemberWriter(generator);
+                };
+                this.jdbcTemplate.query(sqlOf(anAggregate), rs -> {
+                    try {
+                        writer.write(rs);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, from);
+                return writer.finish();
+            });
+
+            return count != null ? count : 0;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * MySQL Connector/J only streams rows one by one with a forward-only, read-only result set and
+     * fetchSize = Integer.MIN_VALUE; any other value buffers the whole result set in memory.
+     */
+    private void applyFetchSize() {
+        if (this.mySQL == null) {
+            this.mySQL = Boolean.TRUE.equals(this.jdbcTemplate.execute((ConnectionCallback<Boolean>) conn ->
+                    conn.getMetaData().getDatabaseProductName().equalsIgnoreCase("MySQL")));
+            this.jdbcTemplate.setFetchSize(this.mySQL ? Integer.MIN_VALUE : FETCH_SIZE);
+        }
+    }
+
+    private static String sqlOf(final ExportAggregate anAggregate) {
+        return switch (anAggregate) {
+            case CATEGORIES -> SELECT_CATEGORIES;
+            case GENRES -> SELECT_GENRES;
+            case CAST_MEMBERS -> SELECT_CAST_MEMBERS;
+        };
+    }
+
+    private abstract static class RowWriter {
+
+        protected final JsonGenerator generator;
+        protected long count;
+
+        RowWriter(final JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        abstract void write(ResultSet rs) throws SQLException, IOException;
+
+        long finish() {
+            return this.count;
+        }
+
+        protected void endRow() throws IOException {
+            this.generator.writeEndObject();
+            this.generator.writeRaw('\n');
+            this.count++;
+        }
+
+        protected void writeInstant(final String field, final Timestamp value) throws IOException {
+            if (value == null) {
+                this.generator.writeNullField(field);
+            } else {
+                this.generator.writeStringField(field, value.toInstant().toString());
+            }
+        }
+    }
+
+    private static class CategoryWriter extends RowWriter {
+
+        CategoryWriter(final JsonGenerator generator) {
+            super(generator);
+        }
+
+        @Override
+        void write(final ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", toId(rs.getBytes("id")));
+            generator.writeStringField("name", rs.getString("name"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeBooleanField("is_active", rs.getBoolean("active"));
+            writeInstant("created_at", rs.getTimestamp("created_at"));
+            writeInstant("updated_at", rs.getTimestamp("updated_at"));
+            writeInstant("deleted_at", rs.getTimestamp("deleted_at"));
+            endRow();
+        }
+    }
+
+    private static class CastMemberWriter extends RowWriter {
+
+        CastMemberWriter(final JsonGenerator generator) {
+            super(generator);
+        }
+
+        @Override
+        void write(final ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", toId(rs.getBytes("id")));
+            generator.writeStringField("name", rs.getString("name"));
+            generator.writeStringField("type", rs.getString("type"));
+            writeInstant("created_at", rs.getTimestamp("created_at"));
+            writeInstant("updated_at", rs.getTimestamp("updated_at"));
+            endRow();
+        }
+    }
+
+    /*
+     * Rows arrive ordered by genre id, one per linked category, so a genre is complete as soon as the
+     * id changes. Only the current genre is kept in memory.
+     */
+    private static class GenreWriter extends RowWriter {
+
+        private String currentId;
+
+        GenreWriter(final JsonGenerator generator) {
+            super(generator);
+        }
+
+        @Override
+        void write(final ResultSet rs) throws SQLException, IOException {
+            final var anId = toId(rs.getBytes("id"));
+            if (!anId.equals(this.currentId)) {
+                closeCurrent();
+                this.currentId = anId;
+
+                generator.writeStartObject();
+                generator.writeStringField("id", anId);
+                generator.writeStringField("name", rs.getString("name"));
+                generator.writeBooleanField("is_active", rs.getBoolean("active"));
+                writeInstant("created_at", rs.getTimestamp("created_at"));
+                writeInstant("updated_at", rs.getTimestamp("updated_at"));
+                writeInstant("deleted_at", rs.getTimestamp("deleted_at"));
+                generator.writeArrayFieldStart("categories_id");
+            }
+
+            final var aCategoryId = rs.getBytes("category_id");
+            if (aCategoryId != null) {
+                generator.writeString(toId(aCategoryId));
+            }
+        }
+
+        @Override
+        long finish() {
+            try {
+                closeCurrent();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this.count;
+        }
+
+        private void closeCurrent() throws IOException {
+            if (this.currentId != null) {
+                generator.writeEndArray();
+                endRow();
+                this.currentId = null;
+            }
+        }
+    }
+}
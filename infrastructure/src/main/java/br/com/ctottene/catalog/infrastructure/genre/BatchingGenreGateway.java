@@ -0,0 +1,57 @@
+package br.com.ctottene.catalog.infrastructure.genre;
+
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.batch.BatchLoader;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class BatchingGenreGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final BatchLoader<GenreID, Genre> loader;
+
+    public BatchingGenreGateway(final GenreGateway delegate, final BatchLoader<GenreID, Genre> loader) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        return this.delegate.create(aGenre);
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return this.delegate.findById(anId);
+        }
+        return this.loader.load(anId);
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        return this.delegate.update(aGenre);
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
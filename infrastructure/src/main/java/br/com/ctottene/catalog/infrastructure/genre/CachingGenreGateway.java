@@ -0,0 +1,103 @@
+package br.com.ctottene.catalog.infrastructure.genre;
+
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+import br.com.ctottene.catalog.infrastructure.cache.SingleFlight;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachingGenreGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final LocalCache<GenreID, Genre> cache;
+    private final LocalCache<GenreID, Boolean> notFound;
+    private final Generation generation;
+    private final SingleFlight<GenreID, Optional<Genre>> flights;
+
+    public CachingGenreGateway(
+            final GenreGateway delegate,
+            final LocalCache<GenreID, Genre> cache,
+            final LocalCache<GenreID, Boolean> notFound,
+            final Generation generation,
+            final SingleFlight<GenreID, Optional<Genre>> flights
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.notFound = Objects.requireNonNull(notFound);
+        this.generation = Objects.requireNonNull(generation);
+        this.flights = Objects.requireNonNull(flights);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        final var created = this.delegate.create(aGenre);
+        this.generation.bump();
+        this.notFound.invalidate(created.getId());
+        this.flights.forget(created.getId());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        this.delegate.deleteById(anId);
+        this.generation.bump();
+        this.cache.invalidate(anId);
+        this.flights.forget(anId);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        final var cached = this.cache.get(anId);
+        if (cached.isPresent()) {
+            return cached.map(Genre::with);
+        }
+        if (this.notFound.get(anId).isPresent()) {
+            return Optional.empty();
+        }
+
+        return this.flights.load(anId, () -> load(anId)).map(Genre::with);
+    }
+
+    private Optional<Genre> load(final GenreID anId) {
+        final var readAt = this.generation.current();
+        final var aGenre = this.delegate.findById(anId);
+        aGenre.ifPresentOrElse(
+                it -> this.cache.put(anId, Genre.with(it)),
+                () -> this.notFound.put(anId, Boolean.TRUE)
+        );
+        // A write bumped the generation during this load, so the result may predate it
+        if (this.generation.current() != readAt) {
+            this.cache.invalidate(anId);
+            this.notFound.invalidate(anId);
+        }
+        return aGenre;
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        try {
+            return this.delegate.update(aGenre);
+        } finally {
+            this.generation.bump();
+            this.cache.invalidate(aGenre.getId());
+            this.flights.forget(aGenre.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
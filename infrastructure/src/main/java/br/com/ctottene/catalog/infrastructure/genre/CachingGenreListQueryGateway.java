@@ -0,0 +1,43 @@
+package br.com.ctottene.catalog.infrastructure.genre;
+
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListOutput;
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListQueryGateway;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+
+import java.util.Objects;
+
+public class CachingGenreListQueryGateway implements GenreListQueryGateway {
+
+    private final GenreListQueryGateway delegate;
+    private final LocalCache<PageKey, Pagination<GenreListOutput>> pages;
+    private final Generation generation;
+
+    public CachingGenreListQueryGateway(
+            final GenreListQueryGateway delegate,
+            final LocalCache<PageKey, Pagination<GenreListOutput>> pages,
+            final Generation generation
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.pages = Objects.requireNonNull(pages);
+        this.generation = Objects.requireNonNull(generation);
+    }
+
+    @Override
+    public Pagination<GenreListOutput> findAll(final SearchQuery aQuery) {
+        final var aKey = new PageKey(this.generation.current(), aQuery);
+        final var cached = this.pages.get(aKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        final var aPage = this.delegate.findAll(aQuery);
+        this.pages.put(aKey, aPage);
+        return aPage;
+    }
+
+    public record PageKey(long generation, SearchQuery query) {
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.ctottene.catalog.infrastructure.genre;
+
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListOutput;
+import br.com.ctottene.catalog.application.genre.retrieve.list.GenreListQueryGateway;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreCategoryID;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreListProjection;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+@Component
+public class GenreListQueryMySQLGateway implements GenreListQueryGateway {
+
+    private final GenreRepository repository;
+    private final JpaPaginator<GenreJpaEntity> paginator;
+
+    public GenreListQueryMySQLGateway(final GenreRepository repository, final EntityManager entityManager) {
+        this.repository = Objects.requireNonNull(repository);
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), GenreJpaEntity.class, GenreMySQLGateway.SORTS, "name");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<GenreListOutput> findAll(final SearchQuery aQuery) {
+        final var where = where(Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this.paginator::search)
+                .orElse(null));
+
+        final var page = this.paginator.findAll(where, aQuery, GenreListProjection.class, GenreListProjection.ATTRIBUTES);
+        final var categories = categoriesOf(page.items());
+
+        return page.map(it -> new GenreListOutput(
+                GenreID.from(it.id()),
+                it.name(),
+                it.active(),
+                categories.getOrDefault(it.id(), List.of()),
+                it.createdAt(),
+                it.deletedAt()
+        ));
+    }
+
+    private Map<String, List<String>> categoriesOf(final List<GenreListProjection> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream()
+                .map(GenreListProjection::id)
+                .toList();
+
+        return this.repository.findCategoriesByGenreIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreID,
+                        Collectors.mapping(GenreCategoryID::getCategoryID, Collectors.toUnmodifiableList())
+                ));
+    }
+}
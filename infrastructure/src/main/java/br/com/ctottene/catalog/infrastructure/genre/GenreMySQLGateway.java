@@ -1,97 +1,183 @@
 package br.com.ctottene.catalog.infrastructure.genre;
 
+import br.com.ctottene.catalog.domain.category.CategoryID;
 import br.com.ctottene.catalog.domain.genre.Genre;
 import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.domain.genre.GenreID;
 import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreCategoryID;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
-import br.com.ctottene.catalog.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import br.com.ctottene.catalog.infrastructure.cache.IdMembershipIndex;
+import br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils;
+import br.com.ctottene.catalog.infrastructure.utils.InClauseUtils;
+import br.com.ctottene.catalog.infrastructure.utils.JpaPaginator;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+import static br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils.toBytes;
+import static java.util.function.Predicate.not;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
-    private final GenreRepository repository;
+    public static final Map<String, String> SORTS = Map.of(
+            "id", "id",
+            "name", "name",
+            "createdAt", "createdAt",
+            "created_at", "createdAt"
+    );
+
+    private static final String INSERT_GENRE_CATEGORIES = "INSERT INTO genres_categories (genre_id, category_id) VALUES :rows";
 
-    public GenreMySQLGateway(final GenreRepository repository) {
+    private static final String DELETE_GENRE_CATEGORIES = "DELETE FROM genres_categories WHERE genre_id = :genreId AND category_id IN (:ids)";
+
+    private final GenreRepository repository;
+    private final JpaPaginator<GenreJpaEntity> paginator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IdMembershipIndex idIndex;
+    private final Executor inClauseExecutor;
+
+    public GenreMySQLGateway(
+            final GenreRepository repository,
+            final EntityManager entityManager,
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            @Qualifier("inClauseExecutor") final Executor inClauseExecutor
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.paginator = new JpaPaginator<>(Objects.requireNonNull(entityManager), GenreJpaEntity.class, SORTS, "name");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.idIndex = new IdMembershipIndex(jdbcTemplate.getJdbcOperations(), "genres");
+        this.inClauseExecutor = Objects.requireNonNull(inClauseExecutor);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIdIndex() {
+        this.idIndex.rebuild();
     }
 
     @Override
+    @Transactional
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        final var created = this.repository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        this.idIndex.add(created.getId().getValue());
+        return created;
     }
 
     @Override
+    @Transactional
     public void deleteById(GenreID anId) {
-        final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
-        }
+        this.repository.deleteOneById(anId.getValue());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Genre> findById(final GenreID anId) {
         return this.repository.findById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    @Transactional(readOnly = true)
+    public List<Genre> findAllById(final List<GenreID> ids) {
+        final var genres = this.repository.findAllById(ids.stream().map(GenreID::getValue).toList());
+        final var categories = categoriesOf(genres);
+        return genres.stream()
+                .map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())))
+                .toList();
+    }
+
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        final var anId = aGenre.getId().getValue();
+
+        this.repository.update(GenreJpaEntity.from(aGenre));
+
+        final var stored = this.repository.findCategoriesByGenreIds(List.of(anId)).stream()
+                .map(GenreCategoryID::getCategoryID)
+                .collect(Collectors.toSet());
+        final var desired = aGenre.getCategories().stream()
+                .map(CategoryID::getValue)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final var removed = stored.stream()
+                .filter(not(desired::contains))
+                .map(BinaryIdUtils::toBytes)
+                .toList();
+        final var added = desired.stream()
+                .filter(not(stored::contains))
+                .map(aCategoryID -> new Object[]{toBytes(anId), toBytes(aCategoryID)})
+                .toList();
+
+        for (int from = 0; from < removed.size(); from += InClauseUtils.CHUNK_SIZE) {
+            final var chunk = removed.subList(from, Math.min(from + InClauseUtils.CHUNK_SIZE, removed.size()));
+            this.jdbcTemplate.update(DELETE_GENRE_CATEGORIES, Map.of("genreId", toBytes(anId), "ids", chunk));
+        }
+        for (int from = 0; from < added.size(); from += InClauseUtils.CHUNK_SIZE) {
+            final var chunk = added.subList(from, Math.min(from + InClauseUtils.CHUNK_SIZE, added.size()));
+            this.jdbcTemplate.update(INSERT_GENRE_CATEGORIES, Map.of("rows", chunk));
+        }
+
+        return aGenre;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var where = Optional.ofNullable(aQuery.terms())
+        final var where = where(Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var pageResult = this.repository.findAll(where(where), page);
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
-        );
+                .orElse(null));
+
+        final var page = this.paginator.findAll(where, aQuery);
+        final var categories = categoriesOf(page.items());
+
+        return page.map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
     }
 
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
-        /*final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
+        final var ids = this.idIndex.candidates(genreIDS, GenreID::getValue).stream()
                 .map(GenreID::getValue)
                 .toList();
-        return this.repository.existsByIds(ids).stream()
+        return InClauseUtils.selectInChunks(ids, this.repository::existsByIds, this.inClauseExecutor).stream()
                 .map(GenreID::from)
-                .toList();*/
-        throw new UnsupportedOperationException();
+                .toList();
     }
 
-    private Genre save(final Genre aGenre) {
-        return this.repository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream()
+                .map(GenreJpaEntity::getId)
+                .toList();
+
+        return this.repository.findCategoriesByGenreIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreID,
+                        Collectors.mapping(it -> CategoryID.from(it.getCategoryID()), Collectors.toList())
+                ));
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return this.paginator.search(terms);
     }
 }
@@ -1,5 +1,8 @@
 package br.com.ctottene.catalog.infrastructure.genre.persistence;
 
+import br.com.ctottene.catalog.infrastructure.configuration.BinaryIdType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -8,10 +11,12 @@ import java.util.Objects;
 @Embeddable
 public class GenreCategoryID implements Serializable {
 
-    @Column(name = "genre_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreID;
 
-    @Column(name = "category_id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryID;
 
     public GenreCategoryID() {}
@@ -3,6 +3,9 @@ package br.com.ctottene.catalog.infrastructure.genre.persistence;
 import br.com.ctottene.catalog.domain.category.CategoryID;
 import br.com.ctottene.catalog.domain.genre.Genre;
 import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.infrastructure.configuration.BinaryIdType;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -11,13 +14,14 @@ import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
     @Id
-    @Column(name = "id", nullable = false)
+    @Type(type = BinaryIdType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -26,7 +30,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -38,6 +42,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public GenreJpaEntity() {
     }
 
@@ -75,11 +82,15 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categoryIDs) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categoryIDs,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
@@ -98,6 +109,17 @@ public class GenreJpaEntity {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public GenreJpaEntity setId(String id) {
         this.id = id;
         return this;
@@ -0,0 +1,14 @@
+package br.com.ctottene.catalog.infrastructure.genre.persistence;
+
+import java.time.Instant;
+
+public record GenreListProjection(
+        String id,
+        String name,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+    public static final String[] ATTRIBUTES = {"id", "name", "active", "createdAt", "updatedAt", "deletedAt"};
+}
@@ -3,16 +3,39 @@ package br.com.ctottene.catalog.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select gc.id from GenreCategoryJpaEntity gc where gc.id.genreID in :ids")
+    List<GenreCategoryID> findCategoriesByGenreIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update Genre g
+               set g.name = :#{#entity.name}, g.active = :#{#entity.active},
+                   g.updatedAt = :#{#entity.updatedAt}, g.deletedAt = :#{#entity.deletedAt}
+             where g.id = :#{#entity.id}""")
+    int update(@Param("entity") GenreJpaEntity entity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from Genre g where g.id = :id")
+    int deleteOneById(@Param("id") String id);
 }
@@ -0,0 +1,265 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import br.com.ctottene.catalog.domain.castmember.CastMember;
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.exceptions.NotificationException;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.domain.validation.handler.Notification;
+import br.com.ctottene.catalog.infrastructure.imports.ImportRecordReader.ImportRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/*
+ * Three stage pipeline: the caller thread parses lines into batches, a fixed pool validates batches
+ * in parallel and a single writer inserts them in order. Batches travel through a bounded queue, so
+ * parsing blocks (and stops reading the request body) whenever the database falls behind.
+ */
+@Component
+public class CatalogImporter {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxReportedErrors;
+    private final Executor validators;
+    private final Executor writers;
+
+    public CatalogImporter(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            @Value("${catalog.import.batch-size:1000}") final int batchSize,
+            @Value("${catalog.import.queue-capacity:8}") final int queueCapacity,
+            @Value("${catalog.import.max-reported-errors:10000}") final int maxReportedErrors,
+            @Qualifier("importValidatorExecutor") final Executor validators,
+            @Qualifier("importWriterExecutor") final Executor writers
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxReportedErrors = maxReportedErrors;
+        this.validators = Objects.requireNonNull(validators);
+        this.writers = Objects.requireNonNull(writers);
+    }
+
+    public ImportReport importFrom(final ImportAggregate anAggregate, final ImportFormat aFormat, final InputStream in) {
+        return switch (anAggregate) {
+            case CATEGORIES -> run(anAggregate, aFormat, in, CatalogImporter::toCategory, this.categoryGateway::createAll);
+            case CAST_MEMBERS -> run(anAggregate, aFormat, in, CatalogImporter::toCastMember, this.castMemberGateway::createAll);
+        };
+    }
+
+    private <T> ImportReport run(
+            final ImportAggregate anAggregate,
+            final ImportFormat aFormat,
+            final InputStream in,
+            final Function<Map<String, String>, T> toAggregate,
+            final Consumer<List<T>> writer
+    ) {
+        final var startedAt = System.nanoTime();
+        final var errors = new LineErrors(this.maxReportedErrors);
+        final var imported = new AtomicLong();
+        final BlockingQueue<CompletableFuture<Batch<T>>> queue = new ArrayBlockingQueue<>(this.queueCapacity);
+
+        final var writing = CompletableFuture.runAsync(() -> drain(queue, writer, imported, errors), this.writers);
+
+        long lines = 0;
+        try (final var reader = new ImportRecordReader(in, aFormat)) {
+            var chunk = new ArrayList<ImportRecord>(this.batchSize);
+            ImportRecord aRecord;
+            while ((aRecord = reader.next()) != null) {
+                lines++;
+                chunk.add(aRecord);
+                if (chunk.size() == this.batchSize) {
+                    enqueue(queue, validate(chunk, toAggregate, errors), writing);
+                    chunk = new ArrayList<>(this.batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                enqueue(queue, validate(chunk, toAggregate, errors), writing);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            enqueue(queue, CompletableFuture.completedFuture(null), writing);
+        }
+        writing.join();
+
+        final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new ImportReport(
+                anAggregate.getLabel(),
+                lines,
+                imported.get(),
+                errors.failed(),
+                elapsedMillis,
+                lines * 1000 / Math.max(elapsedMillis, 1),
+                errors.sorted(),
+                errors.truncated()
+        );
+    }
+
+    private <T> CompletableFuture<Batch<T>> validate(
+            final List<ImportRecord> records,
+            final Function<Map<String, String>, T> toAggregate,
+            final LineErrors errors
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            final var batch = new Batch<T>(new ArrayList<>(records.size()), new ArrayList<>(records.size()));
+            for (final var aRecord : records) {
+                if (aRecord.isMalformed()) {
+                    errors.add(aRecord.line(), List.of(aRecord.error()));
+                    continue;
+                }
+
+                final var notification = Notification.create();
+                final var anAggregate = notification.validate(() -> toAggregate.apply(aRecord.fields()));
+                if (notification.hasError()) {
+                    errors.add(aRecord.line(), notification.getErrors().stream().map(Error::message).toList());
+                } else {
+                    batch.items().add(anAggregate);
+                    batch.lines().add(aRecord.line());
+                }
+            }
+            return batch;
+        }, this.validators);
+    }
+
+    private static <T> void drain(
+            final BlockingQueue<CompletableFuture<Batch<T>>> queue,
+            final Consumer<List<T>> writer,
+            final AtomicLong imported,
+            final LineErrors errors
+    ) {
+        try {
+            while (true) {
+                final var batch = queue.take().join();
+                if (batch == null) {
+                    return;
+                }
+                if (batch.items().isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    writer.accept(batch.items());
+                    imported.addAndGet(batch.items().size());
+                } catch (final RuntimeException e) {
+                    batch.lines().forEach(line -> errors.add(line, List.of("Batch insert failed: " + e.getMessage())));
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> void enqueue(
+            final BlockingQueue<CompletableFuture<Batch<T>>> queue,
+            final CompletableFuture<Batch<T>> aBatch,
+            final CompletableFuture<Void> writing
+    ) {
+        try {
+            while (!queue.offer(aBatch, 100, TimeUnit.MILLISECONDS)) {
+                if (writing.isDone()) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+    }
+
+    private static Category toCategory(final Map<String, String> fields) {
+        final var isActive = fields.get("is_active") == null || Boolean.parseBoolean(fields.get("is_active"));
+        final var aCategory = Category.newCategory(fields.get("name"), fields.get("description"), isActive);
+
+        final var notification = Notification.create();
+        aCategory.validate(notification);
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create an Aggregate Category", notification);
+        }
+        return aCategory;
+    }
+
+    private static CastMember toCastMember(final Map<String, String> fields) {
+        return CastMember.newCastMember(fields.get("name"), typeOf(fields.get("type")));
+    }
+
+    private static CastMemberType typeOf(final String type) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return CastMemberType.valueOf(type.trim().toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(new Error("'type' must be one of ACTOR, DIRECTOR"));
+        }
+    }
+
+    private record Batch<T>(List<T> items, List<Long> lines) {
+    }
+
+    /*
+     * Validators finish out of order, so the report keeps the lowest line numbers seen rather than the
+     * first errors to arrive: a max-heap by line evicts its highest entry once it holds maxReported.
+     */
+    private static class LineErrors {
+
+        private final int maxReported;
+        private final PriorityQueue<ImportReport.LineError> reported =
+                new PriorityQueue<>((a, b) -> Long.compare(b.line(), a.line()));
+        private long failed;
+
+        LineErrors(final int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        synchronized void add(final long line, final List<String> messages) {
+            this.failed++;
+            if (this.reported.size() < this.maxReported) {
+                this.reported.add(new ImportReport.LineError(line, messages));
+            } else if (this.maxReported > 0 && line < this.reported.peek().line()) {
+                this.reported.poll();
+                this.reported.add(new ImportReport.LineError(line, messages));
+            }
+        }
+
+        synchronized long failed() {
+            return this.failed;
+        }
+
+        synchronized boolean truncated() {
+            return this.failed > this.reported.size();
+        }
+
+        synchronized List<ImportReport.LineError> sorted() {
+            return this.reported.stream()
+                    .sorted(Comparator.comparingLong(ImportReport.LineError::line))
+                    .toList();
+        }
+    }
+}
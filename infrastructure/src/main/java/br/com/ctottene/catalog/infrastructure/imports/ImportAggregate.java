@@ -0,0 +1,25 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImportAggregate {
+    CATEGORIES("categories"),
+    CAST_MEMBERS("cast_members");
+
+    private final String label;
+
+    ImportAggregate(final String label) {
+        this.label = label;
+    }
+
+    public static Optional<ImportAggregate> of(final String label) {
+        return Arrays.stream(ImportAggregate.values())
+                .filter(it -> it.label.equalsIgnoreCase(label))
+                .findFirst();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
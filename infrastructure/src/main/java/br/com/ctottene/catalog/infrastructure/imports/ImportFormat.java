@@ -0,0 +1,29 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static Optional<ImportFormat> of(final String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return Optional.empty();
+        }
+
+        final var aMediaType = MediaType.parseMediaType(contentType);
+        if (aMediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                || aMediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return Optional.of(NDJSON);
+        }
+        if (aMediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return Optional.of(CSV);
+        }
+        return Optional.empty();
+    }
+}
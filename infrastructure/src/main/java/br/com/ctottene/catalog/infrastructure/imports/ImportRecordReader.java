@@ -0,0 +1,143 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import br.com.ctottene.catalog.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Reads one record per physical line, so memory stays bounded by the longest line. CSV files must
+ * start with a header row and cannot embed line breaks inside quoted values.
+ */
+class ImportRecordReader implements Closeable {
+
+    private static final ObjectMapper MAPPER = Json.mapper();
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private List<String> header;
+    private long line;
+
+    ImportRecordReader(final InputStream in, final ImportFormat format) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * @return the next non-blank record, or {@code null} once the input is exhausted
+     */
+    ImportRecord next() throws IOException {
+        String raw;
+        while ((raw = this.reader.readLine()) != null) {
+            this.line++;
+            if (raw.isBlank()) {
+                continue;
+            }
+
+            if (this.format == ImportFormat.CSV && this.header == null) {
+                this.header = splitCsv(raw).stream()
+                        .map(it -> it.trim().toLowerCase())
+                        .toList();
+                continue;
+            }
+
+            try {
+                return ImportRecord.valid(this.line, this.format == ImportFormat.CSV ? csv(raw) : ndjson(raw));
+            } catch (final IOException | RuntimeException e) {
+                return ImportRecord.malformed(this.line, "Malformed %s line".formatted(this.format.name()));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private Map<String, String> ndjson(final String raw) throws IOException {
+        final var node = MAPPER.readTree(raw);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Not a JSON object");
+        }
+
+        final var fields = new HashMap<String, String>();
+        node.fields().forEachRemaining(it -> fields.put(it.getKey(), textOf(it.getValue())));
+        return fields;
+    }
+
+    private Map<String, String> csv(final String raw) {
+        final var values = splitCsv(raw);
+        if (values.size() != this.header.size()) {
+            throw new IllegalArgumentException("Expected %d columns".formatted(this.header.size()));
+        }
+
+        final var fields = new HashMap<String, String>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(this.header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+        }
+        return fields;
+    }
+
+    private static String textOf(final JsonNode value) {
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static List<String> splitCsv(final String raw) {
+        final var values = new ArrayList<String>();
+        final var current = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < raw.length(); i++) {
+            final var c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    record ImportRecord(long line, Map<String, String> fields, String error) {
+
+        static ImportRecord valid(final long line, final Map<String, String> fields) {
+            return new ImportRecord(line, fields, null);
+        }
+
+        static ImportRecord malformed(final long line, final String error) {
+            return new ImportRecord(line, Map.of(), error);
+        }
+
+        boolean isMalformed() {
+            return error != null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ImportReport(
+        @JsonProperty("aggregate") String aggregate,
+        @JsonProperty("lines") long lines,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("failed") long failed,
+        @JsonProperty("elapsed_ms") long elapsedMillis,
+        @JsonProperty("lines_per_second") long linesPerSecond,
+        @JsonProperty("errors") List<LineError> errors,
+        @JsonProperty("errors_truncated") boolean errorsTruncated
+) {
+
+    public record LineError(
+            @JsonProperty("line") long line,
+            @JsonProperty("messages") List<String> messages
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class BinaryIdUtils {
+
+    private static final Pattern HEX_ID = Pattern.compile("[0-9a-fA-F]{32}");
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private BinaryIdUtils() {}
+
+    /*
+     * Ids that are not 32 hex digits (e.g. a malformed path variable) are hashed into a
+     * name-based UUIDv3, which can never collide with the UUIDv7 ids we generate, so
+     * lookups by them simply find nothing.
+     */
+    public static byte[] toBytes(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+
+        final var hex = anId.replace("-", "");
+        if (HEX_ID.matcher(hex).matches()) {
+            return HEX.parseHex(hex);
+        }
+
+        final var uuid = UUID.nameUUIDFromBytes(anId.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String toId(final byte[] bytes) {
+        return bytes != null ? HEX.formatHex(bytes) : null;
+    }
+}
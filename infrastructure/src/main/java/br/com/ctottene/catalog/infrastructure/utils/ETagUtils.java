@@ -0,0 +1,46 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HexFormat;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    /*
+     * updatedAt has microsecond precision and changes on every write, so id + updatedAt identifies a
+     * representation byte for byte and can back a strong validator.
+     */
+    public static String of(final String anId, final Instant updatedAt) {
+        final var micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+        return "\"%s-%s\"".formatted(anId, Long.toHexString(micros));
+    }
+
+    /*
+     * For representations that embed links the database can remove without touching updatedAt
+     * (a genre's categories go away with ON DELETE CASCADE), the linked ids are folded into the tag.
+     */
+    public static String of(final String anId, final Instant updatedAt, final Collection<String> linkedIds) {
+        final var micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+        return "\"%s-%s-%s\"".formatted(anId, Long.toHexString(micros), digest(linkedIds));
+    }
+
+    private static String digest(final Collection<String> ids) {
+        final MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ids.stream().sorted().forEach(it -> {
+            sha256.update(it.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) ',');
+        });
+        return HexFormat.of().formatHex(sha256.digest(), 0, 8);
+    }
+}
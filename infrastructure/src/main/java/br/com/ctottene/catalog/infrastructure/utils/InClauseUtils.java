@@ -0,0 +1,69 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+public final class InClauseUtils {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private InClauseUtils() {}
+
+    /*
+     * Chunks run concurrently on the given executor. Inside a transaction they all run on the caller
+     * thread instead, since other threads cannot see rows written by the caller's open transaction.
+     */
+    public static List<String> selectInChunks(
+            final Iterable<String> ids,
+            final Function<List<String>, Collection<String>> query,
+            final Executor executor
+    ) {
+        final var distinct = new ArrayList<String>(new LinkedHashSet<>(asCollection(ids)));
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+
+        final var chunks = new ArrayList<List<String>>();
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size())));
+        }
+
+        if (chunks.size() == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return chunks.stream()
+                    .flatMap(chunk -> query.apply(chunk).stream())
+                    .toList();
+        }
+
+        final var futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> query.apply(chunk), executor))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .flatMap(future -> future.join().stream())
+                    .toList();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Collection<String> asCollection(final Iterable<String> ids) {
+        if (ids instanceof Collection<String> collection) {
+            return collection;
+        }
+        final var collection = new ArrayList<String>();
+        ids.forEach(collection::add);
+        return collection;
+    }
+}
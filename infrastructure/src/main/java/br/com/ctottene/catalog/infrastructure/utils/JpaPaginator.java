@@ -0,0 +1,262 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.domain.validation.Error;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+public class JpaPaginator<T> {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final Duration COUNT_TTL = Duration.ofSeconds(10);
+    private static final int MAX_CACHED_COUNTS = 1_000;
+
+    private static final String TABLE_ROWS_SQL = """
+            SELECT TABLE_ROWS FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table
+            """;
+
+    private final EntityManager entityManager;
+    private final Class<T> type;
+    private final String table;
+    private final Map<String, String> sorts;
+    private final String[] searchColumns;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private volatile Boolean mySQL;
+
+    /**
+     * @param sorts API sort keys mapped to the entity attributes they order by; any other key is rejected
+     */
+    public JpaPaginator(
+            final EntityManager entityManager,
+            final Class<T> type,
+            final Map<String, String> sorts,
+            final String... searchColumns
+    ) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.type = Objects.requireNonNull(type);
+        this.table = type.getAnnotation(Table.class).name();
+        this.sorts = Map.copyOf(sorts);
+        this.searchColumns = searchColumns;
+    }
+
+    public Specification<T> search(final String terms) {
+        final var booleanTerms = SpecificationUtils.booleanMode(terms);
+        if (isMySQL() && !booleanTerms.isBlank()) {
+            return SpecificationUtils.match(booleanTerms, this.searchColumns);
+        }
+
+        return Arrays.stream(this.searchColumns)
+                .map(column -> SpecificationUtils.<T>like(column, terms))
+                .reduce(Specification::or)
+                .orElseThrow();
+    }
+
+    public Pagination<T> findAll(final Specification<T> where, final SearchQuery aQuery) {
+        return findAll(where, aQuery, this.type, (root, cb) -> root);
+    }
+
+    /**
+     * Selects only the given attributes into {@code projection} through a constructor expression, so
+     * rows are neither managed by the persistence context nor rebuilt as aggregates.
+     */
+    public <R> Pagination<R> findAll(
+            final Specification<T> where,
+            final SearchQuery aQuery,
+            final Class<R> projection,
+            final String... attributes
+    ) {
+        return findAll(where, aQuery, projection, (root, cb) -> cb.construct(
+                projection,
+                Arrays.stream(attributes).map(root::get).toArray(Selection<?>[]::new)
+        ));
+    }
+
+    private <R> Pagination<R> findAll(
+            final Specification<T> where,
+            final SearchQuery aRawQuery,
+            final Class<R> resultType,
+            final BiFunction<Root<T>, CriteriaBuilder, Selection<? extends R>> selection
+    ) {
+        final var aQuery = resolveSort(aRawQuery);
+        final var byRelevance = RELEVANCE.equals(aQuery.sort());
+        if (byRelevance && aQuery.isKeyset()) {
+            throw DomainException.with(new Error("Cursor pagination is not supported when sorting by relevance"));
+        }
+
+        final var seek = aQuery.isKeyset() && !aQuery.cursor().isBlank()
+                ? where.and(KeysetUtils.<T>after(aQuery.cursor(), aQuery.sort(), aQuery.direction()))
+                : where;
+        final var offset = aQuery.isKeyset() ? 0 : aQuery.page() * aQuery.perPage();
+
+        final var rows = select(seek, aQuery, offset, aQuery.perPage() + 1, resultType, selection);
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        final long total = switch (aQuery.countMode()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATED -> estimate(where, aQuery.terms());
+            case EXACT -> !aQuery.isKeyset() && !hasNext && (offset == 0 || !items.isEmpty())
+                    ? offset + items.size()
+                    : count(where);
+        };
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total,
+                items,
+                hasNext && !byRelevance ? KeysetUtils.cursorOf(items.get(items.size() - 1), aQuery.sort()) : null,
+                hasNext,
+                aQuery.countMode()
+        );
+    }
+
+    private SearchQuery resolveSort(final SearchQuery aQuery) {
+        if (Sort.Direction.fromOptionalString(aQuery.direction()).isEmpty()) {
+            throw DomainException.with(new Error("Invalid sort direction '%s'".formatted(aQuery.direction())));
+        }
+        if (RELEVANCE.equals(aQuery.sort())) {
+            return aQuery;
+        }
+
+        final var attribute = this.sorts.get(aQuery.sort());
+        if (attribute == null) {
+            throw DomainException.with(new Error("Invalid sort '%s', expected one of: %s".formatted(
+                    aQuery.sort(),
+                    String.join(", ", new TreeSet<>(this.sorts.keySet()))
+            )));
+        }
+
+        return new SearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.terms(),
+                attribute,
+                aQuery.direction(),
+                aQuery.cursor(),
+                aQuery.countMode()
+        );
+    }
+
+    private long estimate(final Specification<T> where, final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return cached("", () -> tableRows().orElseGet(() -> count(where)));
+        }
+        return cached(terms.toUpperCase(), () -> count(where));
+    }
+
+    private long cached(final String key, final LongSupplier count) {
+        final var now = System.nanoTime();
+        final var aCount = this.counts.get(key);
+        if (aCount != null && aCount.expiresAt() - now > 0) {
+            return aCount.value();
+        }
+
+        if (this.counts.size() >= MAX_CACHED_COUNTS) {
+            this.counts.clear();
+        }
+
+        final var value = count.getAsLong();
+        this.counts.put(key, new CachedCount(value, now + COUNT_TTL.toNanos()));
+        return value;
+    }
+
+    private Optional<Long> tableRows() {
+        if (!isMySQL()) {
+            return Optional.empty();
+        }
+
+        final List<?> result = this.entityManager.createNativeQuery(TABLE_ROWS_SQL)
+                .setParameter("table", this.table)
+                .getResultList();
+
+        return result.stream()
+                .filter(Objects::nonNull)
+                .map(it -> ((Number) it).longValue())
+                .findFirst();
+    }
+
+    private boolean isMySQL() {
+        if (this.mySQL == null) {
+            this.mySQL = this.entityManager.unwrap(Session.class)
+                    .doReturningWork(conn -> conn.getMetaData().getDatabaseProductName().equalsIgnoreCase("MySQL"));
+        }
+        return this.mySQL;
+    }
+
+    private <R> List<R> select(
+            final Specification<T> where,
+            final SearchQuery aQuery,
+            final int offset,
+            final int limit,
+            final Class<R> resultType,
+            final BiFunction<Root<T>, CriteriaBuilder, Selection<? extends R>> selection
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(resultType);
+        final var root = query.from(this.type);
+        final var predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(selection.apply(root, cb));
+        query.orderBy(orders(root, cb, aQuery));
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Order> orders(final Root<T> root, final CriteriaBuilder cb, final SearchQuery aQuery) {
+        if (!RELEVANCE.equals(aQuery.sort())) {
+            return QueryUtils.toOrders(KeysetUtils.sortOf(aQuery.sort(), aQuery.direction()), root, cb);
+        }
+
+        final var booleanTerms = SpecificationUtils.booleanMode(aQuery.terms());
+        if (isMySQL() && !booleanTerms.isBlank()) {
+            return List.of(
+                    cb.desc(SpecificationUtils.relevance(root, cb, booleanTerms, this.searchColumns)),
+                    cb.asc(root.get("id"))
+            );
+        }
+        return QueryUtils.toOrders(KeysetUtils.sortOf(this.searchColumns[0], Sort.Direction.ASC.name()), root, cb);
+    }
+
+    private long count(final Specification<T> where) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(this.type);
+        final var predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+}
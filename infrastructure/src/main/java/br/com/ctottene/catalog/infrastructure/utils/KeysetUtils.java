@@ -0,0 +1,133 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.validation.Error;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+    private static final char SEPARATOR = '\n';
+    private static final char NULL_VALUE = '-';
+    private static final char VALUE = '=';
+
+    private KeysetUtils() {}
+
+    public static Sort sortOf(final String sort, final String direction) {
+        final var aDirection = Direction.fromString(direction);
+        if (ID.equals(sort)) {
+            return Sort.by(aDirection, ID);
+        }
+        return Sort.by(aDirection, sort).and(Sort.by(aDirection, ID));
+    }
+
+    public static String cursorOf(final Object entity, final String sort) {
+        final var value = propertyOf(entity, sort);
+        final var raw = sort + SEPARATOR
+                + (value == null ? String.valueOf(NULL_VALUE) : VALUE + valueOf(value)) + SEPARATOR
+                + propertyOf(entity, ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> Specification<T> after(final String cursor, final String sort, final String direction) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+
+        final var first = raw.indexOf(SEPARATOR);
+        final var last = raw.lastIndexOf(SEPARATOR);
+        if (first < 0 || first == last || !raw.substring(0, first).equals(sort)) {
+            throw invalidCursor();
+        }
+
+        final var value = raw.charAt(first + 1) == VALUE ? raw.substring(first + 2, last) : null;
+        final var id = raw.substring(last + 1);
+        final var ascending = Direction.fromString(direction).isAscending();
+
+        return (root, query, cb) -> {
+            final Path<String> idPath = root.get(ID);
+            final var idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if (ID.equals(sort)) {
+                return idAfter;
+            }
+            return seek(cb, root.get(sort), value, idAfter, ascending);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(
+            final CriteriaBuilder cb,
+            final Path path,
+            final String value,
+            final Predicate idAfter,
+            final boolean ascending
+    ) {
+        // MySQL sorts NULLs first on ASC and last on DESC
+        if (value == null) {
+            return ascending
+                    ? cb.or(cb.and(cb.isNull(path), idAfter), cb.isNotNull(path))
+                    : cb.and(cb.isNull(path), idAfter);
+        }
+
+        final Comparable typed = parse(path.getJavaType(), value);
+        final var valueAfter = ascending ? cb.greaterThan(path, typed) : cb.lessThan(path, typed);
+        final var tie = cb.and(cb.equal(path, typed), idAfter);
+        return ascending ? cb.or(valueAfter, tie) : cb.or(valueAfter, tie, cb.isNull(path));
+    }
+
+    private static Object propertyOf(final Object entity, final String property) {
+        if (!entity.getClass().isRecord()) {
+            return new BeanWrapperImpl(entity).getPropertyValue(property);
+        }
+
+        final var component = Arrays.stream(entity.getClass().getRecordComponents())
+                .filter(it -> it.getName().equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown property '%s'".formatted(property)));
+        try {
+            return component.getAccessor().invoke(entity);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String valueOf(final Object value) {
+        return value instanceof Enum<?> anEnum ? anEnum.name() : value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable parse(final Class<?> type, final String value) {
+        try {
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+            return value;
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("Invalid cursor"));
+    }
+}
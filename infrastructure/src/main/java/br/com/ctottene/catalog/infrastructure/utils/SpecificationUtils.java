@@ -2,16 +2,52 @@ package br.com.ctottene.catalog.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public final class SpecificationUtils {
 
+    public static final String MATCH_AGAINST = "match_against_";
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> match(final String booleanTerms, final String... props) {
+        return (root, query, cb) -> cb.greaterThan(relevance(root, cb, booleanTerms, props), 0.0);
+    }
+
+    public static <T> Expression<Double> relevance(
+            final Root<T> root,
+            final CriteriaBuilder cb,
+            final String booleanTerms,
+            final String... props
+    ) {
+        final var args = Stream.concat(
+                Arrays.stream(props).map(root::get),
+                Stream.of(cb.literal(booleanTerms))
+        ).toArray(Expression<?>[]::new);
+
+        return cb.function(MATCH_AGAINST + props.length, Double.class, args);
+    }
+
+    public static String booleanMode(final String terms) {
+        if (terms == null) {
+            return "";
+        }
+        return Arrays.stream(terms.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(word -> !word.isBlank())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
 }
-
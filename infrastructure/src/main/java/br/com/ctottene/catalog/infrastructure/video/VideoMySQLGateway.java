@@ -0,0 +1,365 @@
+package br.com.ctottene.catalog.infrastructure.video;
+
+import br.com.ctottene.catalog.domain.Identifier;
+import br.com.ctottene.catalog.domain.castmember.CastMemberID;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.genre.GenreID;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.validation.Error;
+import br.com.ctottene.catalog.domain.video.*;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.Year;
+import java.util.*;
+import java.util.function.Function;
+
+import static br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils.toBytes;
+import static br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils.toId;
+
+@Component
+public class VideoMySQLGateway implements VideoGateway {
+
+    private static final String SELECT_VIDEOS = """
+            SELECT v.id, v.title, v.description, v.year_launched, v.opened, v.published,
+                   v.rating, v.duration, v.created_at, v.updated_at
+              FROM videos v""";
+
+    private static final String INSERT_VIDEO = """
+            INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+            VALUES (:id, :title, :description, :yearLaunched, :opened, :published, :rating, :duration, :createdAt, :updatedAt)""";
+
+    private static final String UPDATE_VIDEO = """
+            UPDATE videos
+               SET title = :title, description = :description, year_launched = :yearLaunched, opened = :opened,
+                   published = :published, rating = :rating, duration = :duration, updated_at = :updatedAt
+             WHERE id = :id""";
+
+    private static final String VIDEOS_CATEGORIES = "videos_categories";
+    private static final String VIDEOS_GENRES = "videos_genres";
+    private static final String VIDEOS_CAST_MEMBERS = "videos_cast_members";
+    private static final String VIDEOS_IMAGE_MEDIA = "videos_image_media";
+    private static final String VIDEOS_AUDIO_VIDEO_MEDIA = "videos_audio_video_media";
+
+    private static final List<String> CHILD_TABLES = List.of(
+            VIDEOS_CATEGORIES,
+            VIDEOS_GENRES,
+            VIDEOS_CAST_MEMBERS,
+            VIDEOS_IMAGE_MEDIA,
+            VIDEOS_AUDIO_VIDEO_MEDIA
+    );
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "title", "title",
+            "launchedAt", "year_launched",
+            "duration", "duration",
+            "rating", "rating",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public VideoMySQLGateway(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public Video create(final Video video) {
+        this.jdbcTemplate.update(INSERT_VIDEO, videoParams(video));
+        insertChildren(video);
+        return video;
+    }
+
+    @Override
+    @Transactional
+    public Video update(final Video video) {
+        this.jdbcTemplate.update(UPDATE_VIDEO, videoParams(video));
+        deleteChildren(video.getId());
+        insertChildren(video);
+        return video;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Video> findById(final VideoID id) {
+        final var rows = this.jdbcTemplate.query(
+                SELECT_VIDEOS + " WHERE v.id = :id",
+                Map.of("id", toBytes(id.getValue())),
+                videoRowMapper()
+        );
+        return hydrate(rows).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final VideoID id) {
+        this.jdbcTemplate.update("DELETE FROM videos WHERE id = :id", Map.of("id", toBytes(id.getValue())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Video> findAll(final VideoSearchQuery query) {
+        final var params = new MapSqlParameterSource();
+        var where = "";
+
+        if (query.terms() != null && !query.terms().isBlank()) {
+            where = " WHERE UPPER(v.title) LIKE :terms";
+            params.addValue("terms", "%" + query.terms().toUpperCase() + "%");
+        }
+
+        final var direction = direction(query.direction());
+        final var orderBy = " ORDER BY v.%s %s, v.id %s".formatted(sortColumn(query.sort()), direction, direction);
+
+        params.addValue("limit", query.perPage());
+        params.addValue("offset", query.page() * query.perPage());
+
+        final var rows = this.jdbcTemplate.query(
+                SELECT_VIDEOS + where + orderBy + " LIMIT :limit OFFSET :offset",
+                params,
+                videoRowMapper()
+        );
+        final var total = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM videos v" + where, params, Long.class);
+
+        return new Pagination<>(query.page(), query.perPage(), total != null ? total : 0, hydrate(rows));
+    }
+
+    private void insertChildren(final Video video) {
+        final var id = toBytes(video.getId().getValue());
+
+        insertIds(VIDEOS_CATEGORIES, "category_id", id, video.getCategories());
+        insertIds(VIDEOS_GENRES, "genre_id", id, video.getGenres());
+        insertIds(VIDEOS_CAST_MEMBERS, "cast_member_id", id, video.getCastMembers());
+
+        final var images = new ArrayList<Object[]>();
+        video.getBanner().ifPresent(it -> images.add(imageRow(id, VideoMediaType.BANNER, it)));
+        video.getThumbnail().ifPresent(it -> images.add(imageRow(id, VideoMediaType.THUMBNAIL, it)));
+        video.getThumbnailHalf().ifPresent(it -> images.add(imageRow(id, VideoMediaType.THUMBNAIL_HALF, it)));
+        insertRows(VIDEOS_IMAGE_MEDIA, "video_id, media_type, checksum, name, location", images);
+
+        final var medias = new ArrayList<Object[]>();
+        video.getVideo().ifPresent(it -> medias.add(audioVideoRow(id, VideoMediaType.VIDEO, it)));
+        video.getTrailer().ifPresent(it -> medias.add(audioVideoRow(id, VideoMediaType.TRAILER, it)));
+        insertRows(
+                VIDEOS_AUDIO_VIDEO_MEDIA,
+                "video_id, media_type, checksum, name, raw_location, encoded_location, status",
+                medias
+        );
+    }
+
+    private void deleteChildren(final VideoID id) {
+        CHILD_TABLES.forEach(table -> this.jdbcTemplate.update(
+                "DELETE FROM %s WHERE video_id = :id".formatted(table),
+                Map.of("id", toBytes(id.getValue()))
+        ));
+    }
+
+    private void insertIds(
+            final String table,
+            final String column,
+            final byte[] videoId,
+            final Set<? extends Identifier> ids
+    ) {
+        final var rows = ids.stream()
+                .map(it -> new Object[]{videoId, toBytes(it.getValue())})
+                .toList();
+        insertRows(table, "video_id, " + column, rows);
+    }
+
+    /*
+     * Expands every row into a single multi-row "VALUES (?, ?), (?, ?), ..." statement,
+     * so each child table costs one round trip regardless of how many rows it receives.
+     */
+    private void insertRows(final String table, final String columns, final List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.update(
+                "INSERT INTO %s (%s) VALUES :rows".formatted(table, columns),
+                Map.of("rows", rows)
+        );
+    }
+
+    private List<Video> hydrate(final List<VideoRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = rows.stream().map(row -> toBytes(row.id())).toList();
+        final var categories = loadIds(VIDEOS_CATEGORIES, "category_id", ids, CategoryID::from);
+        final var genres = loadIds(VIDEOS_GENRES, "genre_id", ids, GenreID::from);
+        final var castMembers = loadIds(VIDEOS_CAST_MEMBERS, "cast_member_id", ids, CastMemberID::from);
+        final var images = loadImages(ids);
+        final var medias = loadAudioVideos(ids);
+
+        return rows.stream()
+                .map(row -> {
+                    final var videoImages = images.getOrDefault(row.id(), Map.of());
+                    final var videoMedias = medias.getOrDefault(row.id(), Map.of());
+                    return Video.with(
+                            VideoID.from(row.id()),
+                            row.title(),
+                            row.description(),
+                            row.launchedAt(),
+                            row.duration(),
+                            row.opened(),
+                            row.published(),
+                            row.rating(),
+                            videoImages.get(VideoMediaType.BANNER),
+                            videoImages.get(VideoMediaType.THUMBNAIL),
+                            videoImages.get(VideoMediaType.THUMBNAIL_HALF),
+                            videoMedias.get(VideoMediaType.TRAILER),
+                            videoMedias.get(VideoMediaType.VIDEO),
+                            categories.getOrDefault(row.id(), new HashSet<>()),
+                            genres.getOrDefault(row.id(), new HashSet<>()),
+                            castMembers.getOrDefault(row.id(), new HashSet<>()),
+                            row.createdAt(),
+                            row.updatedAt()
+                    );
+                })
+                .toList();
+    }
+
+    private <T extends Identifier> Map<String, Set<T>> loadIds(
+            final String table,
+            final String column,
+            final List<byte[]> videoIds,
+            final Function<String, T> mapper
+    ) {
+        final var result = new HashMap<String, Set<T>>();
+        this.jdbcTemplate.query(
+                "SELECT video_id, %s FROM %s WHERE video_id IN (:ids)".formatted(column, table),
+                Map.of("ids", videoIds),
+                rs -> {
+                    result.computeIfAbsent(toId(rs.getBytes("video_id")), key -> new HashSet<>())
+                            .add(mapper.apply(toId(rs.getBytes(column))));
+                }
+        );
+        return result;
+    }
+
+    private Map<String, Map<VideoMediaType, ImageMedia>> loadImages(final List<byte[]> videoIds) {
+        final var result = new HashMap<String, Map<VideoMediaType, ImageMedia>>();
+        this.jdbcTemplate.query(
+                "SELECT video_id, media_type, checksum, name, location FROM videos_image_media WHERE video_id IN (:ids)",
+                Map.of("ids", videoIds),
+                rs -> {
+                    result.computeIfAbsent(toId(rs.getBytes("video_id")), key -> new EnumMap<>(VideoMediaType.class))
+                            .put(
+                                    VideoMediaType.valueOf(rs.getString("media_type")),
+                                    ImageMedia.with(rs.getString("checksum"), rs.getString("name"), rs.getString("location"))
+                            );
+                }
+        );
+        return result;
+    }
+
+    private Map<String, Map<VideoMediaType, AudioVideoMedia>> loadAudioVideos(final List<byte[]> videoIds) {
+        final var result = new HashMap<String, Map<VideoMediaType, AudioVideoMedia>>();
+        this.jdbcTemplate.query(
+                """
+                SELECT video_id, media_type, checksum, name, raw_location, encoded_location, status
+                  FROM videos_audio_video_media
+                 WHERE video_id IN (:ids)""",
+                Map.of("ids", videoIds),
+                rs -> {
+                    result.computeIfAbsent(toId(rs.getBytes("video_id")), key -> new EnumMap<>(VideoMediaType.class))
+                            .put(
+                                    VideoMediaType.valueOf(rs.getString("media_type")),
+                                    AudioVideoMedia.with(
+                                            rs.getString("checksum"),
+                                            rs.getString("name"),
+                                            rs.getString("raw_location"),
+                                            rs.getString("encoded_location"),
+                                            MediaStatus.valueOf(rs.getString("status"))
+                                    )
+                            );
+                }
+        );
+        return result;
+    }
+
+    private static MapSqlParameterSource videoParams(final Video video) {
+        return new MapSqlParameterSource()
+                .addValue("id", toBytes(video.getId().getValue()))
+                .addValue("title", video.getTitle())
+                .addValue("description", video.getDescription())
+                .addValue("yearLaunched", video.getLaunchedAt().getValue())
+                .addValue("opened", video.isOpened())
+                .addValue("published", video.isPublished())
+                .addValue("rating", video.getRating().getName())
+                .addValue("duration", video.getDuration())
+                .addValue("createdAt", Timestamp.from(video.getCreatedAt()))
+                .addValue("updatedAt", Timestamp.from(video.getUpdatedAt()));
+    }
+
+    private static Object[] imageRow(final byte[] videoId, final VideoMediaType type, final ImageMedia image) {
+        return new Object[]{videoId, type.name(), image.checksum(), image.name(), image.location()};
+    }
+
+    private static Object[] audioVideoRow(final byte[] videoId, final VideoMediaType type, final AudioVideoMedia media) {
+        return new Object[]{
+                videoId,
+                type.name(),
+                media.checksum(),
+                media.name(),
+                media.rawLocation(),
+                media.encodedLocation(),
+                media.status().name()
+        };
+    }
+
+    private static String sortColumn(final String sort) {
+        final var column = sort != null ? SORT_COLUMNS.get(sort) : null;
+        if (column == null) {
+            throw DomainException.with(new Error("Invalid sort '%s', expected one of: %s".formatted(
+                    sort,
+                    String.join(", ", new TreeSet<>(SORT_COLUMNS.keySet()))
+            )));
+        }
+        return column;
+    }
+
+    private static String direction(final String direction) {
+        return Direction.fromOptionalString(direction)
+                .map(Direction::name)
+                .orElseThrow(() -> DomainException.with(new Error("Invalid sort direction '%s'".formatted(direction))));
+    }
+
+    private static RowMapper<VideoRow> videoRowMapper() {
+        return (rs, rowNum) -> new VideoRow(
+                toId(rs.getBytes("id")),
+                rs.getString("title"),
+                rs.getString("description"),
+                Year.of(rs.getInt("year_launched")),
+                rs.getDouble("duration"),
+                rs.getBoolean("opened"),
+                rs.getBoolean("published"),
+                Rating.of(rs.getString("rating")).orElse(null),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant()
+        );
+    }
+
+    private record VideoRow(
+            String id,
+            String title,
+            String description,
+            Year launchedAt,
+            double duration,
+            boolean opened,
+            boolean published,
+            Rating rating,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+    }
+}
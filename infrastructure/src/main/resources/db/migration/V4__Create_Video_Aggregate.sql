@@ -0,0 +1,58 @@
+CREATE TABLE videos (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(4000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    rating VARCHAR(10),
+    duration DECIMAL(5, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE videos_image_media (
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(20) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    CONSTRAINT pk_videos_image_media PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_videos_image_media_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_audio_video_media (
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(20) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    raw_location VARCHAR(500) NOT NULL,
+    encoded_location VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    CONSTRAINT pk_videos_audio_video_media PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_videos_audio_video_media_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_categories (
+    video_id VARCHAR(36) NOT NULL,
+    category_id VARCHAR(36) NOT NULL,
+    CONSTRAINT pk_videos_categories PRIMARY KEY (video_id, category_id),
+    CONSTRAINT fk_videos_categories_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_videos_categories_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_genres (
+    video_id VARCHAR(36) NOT NULL,
+    genre_id VARCHAR(36) NOT NULL,
+    CONSTRAINT pk_videos_genres PRIMARY KEY (video_id, genre_id),
+    CONSTRAINT fk_videos_genres_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_videos_genres_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_cast_members (
+    video_id VARCHAR(36) NOT NULL,
+    cast_member_id VARCHAR(36) NOT NULL,
+    CONSTRAINT pk_videos_cast_members PRIMARY KEY (video_id, cast_member_id),
+    CONSTRAINT fk_videos_cast_members_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_videos_cast_members_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE
+);
@@ -0,0 +1,11 @@
+CREATE INDEX idx_categories_name_id ON categories (name, id);
+CREATE INDEX idx_categories_created_at_id ON categories (created_at, id);
+CREATE INDEX idx_categories_active_name ON categories (active, name);
+
+CREATE INDEX idx_genres_name_id ON genres (name, id);
+CREATE INDEX idx_genres_created_at_id ON genres (created_at, id);
+CREATE INDEX idx_genres_active_name ON genres (active, name);
+
+CREATE INDEX idx_cast_members_name_id ON cast_members (name, id);
+CREATE INDEX idx_cast_members_created_at_id ON cast_members (created_at, id);
+CREATE INDEX idx_cast_members_type_id ON cast_members (type, id);
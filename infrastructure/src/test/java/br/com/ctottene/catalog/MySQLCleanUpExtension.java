@@ -6,6 +6,7 @@ import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Collection;
@@ -16,6 +17,8 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
     public void beforeEach(final ExtensionContext context) {
         final var applicationContext = SpringExtension.getApplicationContext(context);
 
+        applicationContext.getBean(JdbcTemplate.class).update("DELETE FROM videos");
+
         cleanUp(List.of(
                 applicationContext.getBean(GenreRepository.class),
                 applicationContext.getBean(CategoryRepository.class),
@@ -1,5 +1,6 @@
 package br.com.ctottene.catalog;
 
+import br.com.ctottene.catalog.infrastructure.configuration.ExecutorsConfig;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,7 +18,8 @@ import java.lang.annotation.*;
         basePackages = "br.com.ctottene.catalog",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ExecutorsConfig.class)
         }
 )
 @DataJpaTest
@@ -2,7 +2,6 @@ package br.com.ctottene.catalog.application.castmember.retrieve.list;
 
 import br.com.ctottene.catalog.IntegrationTest;
 import br.com.ctottene.catalog.domain.castmember.CastMember;
-import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberRepository;
@@ -28,7 +27,7 @@ public class ListCastMembersUseCaseIT {
     private CastMemberRepository castMemberRepository;
 
     @SpyBean
-    private CastMemberGateway castMemberGateway;
+    private CastMemberListQueryGateway queryGateway;
 
     @Test
     public void givenAValidQuery_whenCallsListCastMember_shouldReturnCastMembers() {
@@ -72,7 +71,7 @@ public class ListCastMembersUseCaseIT {
                         && expectedItems.containsAll(actualOutput.items())
         );
 
-        verify(castMemberGateway).findAll(any());
+        verify(queryGateway).findAll(any());
     }
 
     @Test
@@ -101,7 +100,7 @@ public class ListCastMembersUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(castMemberGateway).findAll(any());
+        verify(queryGateway).findAll(any());
     }
 
     @Test
@@ -116,7 +115,7 @@ public class ListCastMembersUseCaseIT {
         final var expectedErrorMessage = "Gateway error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(castMemberGateway).findAll(any());
+                .when(queryGateway).findAll(any());
 
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
@@ -129,6 +128,6 @@ public class ListCastMembersUseCaseIT {
         // then
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway).findAll(any());
+        verify(queryGateway).findAll(any());
     }
 }
@@ -1,9 +1,12 @@
 package br.com.ctottene.catalog.application.category.delete;
 
 import br.com.ctottene.catalog.IntegrationTest;
+import br.com.ctottene.catalog.application.genre.retrieve.get.GetGenreByIdUseCase;
 import br.com.ctottene.catalog.domain.category.Category;
 import br.com.ctottene.catalog.domain.category.CategoryGateway;
 import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -25,6 +29,12 @@ public class DeleteCategoryUseCaseTestIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private GetGenreByIdUseCase getGenreByIdUseCase;
+
     @SpyBean
     private CategoryGateway categoryGateway;
 
@@ -43,6 +53,20 @@ public class DeleteCategoryUseCaseTestIT {
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenACachedGenreWithTheCategory_whenDeleteCategory_thenGenreShouldNoLongerListIt() {
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+        save(aCategory);
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Action", true).addCategories(List.of(expectedId)));
+        Assertions.assertEquals(List.of(expectedId.getValue()), getGenreByIdUseCase.execute(aGenre.getId().getValue()).categories());
+
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        Assertions.assertTrue(getGenreByIdUseCase.execute(aGenre.getId().getValue()).categories().isEmpty());
+    }
+
     @Test
     public void givenAnInvalidId_whenDeleteCategory_thenShouldBeNotOk() {
         final var expectedId = CategoryID.from("123");
@@ -0,0 +1,41 @@
+package br.com.ctottene.catalog.application.genre.retrieve.get;
+
+import br.com.ctottene.catalog.IntegrationTest;
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = "catalog.cache.genres.batch-window=2ms")
+public class GetGenreByIdBatchedUseCaseIT {
+
+    @Autowired
+    private GetGenreByIdUseCase useCase;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Test
+    public void givenADashedUppercaseId_whenCallsGetGenreWithBatching_shouldReturnGenre() {
+        // given
+        final var aGenre = Genre.newGenre("Action", true);
+        final var expectedId = aGenre.getId().getValue();
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        final var hex = expectedId.toUpperCase();
+        final var aLegacyId = hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-"
+                + hex.substring(12, 16) + "-" + hex.substring(16, 20) + "-" + hex.substring(20);
+
+        // when
+        final var actualGenre = useCase.execute(aLegacyId);
+
+        // then
+        Assertions.assertEquals(expectedId, actualGenre.id());
+        Assertions.assertEquals("Action", actualGenre.name());
+    }
+}
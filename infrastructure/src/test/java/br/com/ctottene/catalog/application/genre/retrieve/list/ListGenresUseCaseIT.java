@@ -2,13 +2,13 @@ package br.com.ctottene.catalog.application.genre.retrieve.list;
 
 import br.com.ctottene.catalog.IntegrationTest;
 import br.com.ctottene.catalog.domain.genre.Genre;
-import br.com.ctottene.catalog.domain.genre.GenreGateway;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.List;
 
@@ -20,12 +20,12 @@ public class ListGenresUseCaseIT {
     @Autowired
     private ListGenresUseCase useCase;
 
-    @Autowired
-    private GenreGateway genreGateway;
-
     @Autowired
     private GenreRepository genreRepository;
 
+    @SpyBean
+    private GenreListQueryGateway queryGateway;
+
     @Test
     public void givenAValidQuery_whenCallsListGenre_shouldReturnGenres() {
         // given
@@ -66,7 +66,7 @@ public class ListGenresUseCaseIT {
                         && expectedItems.containsAll(actualOutput.items())
         );
 
-        verify(genreGateway).findAll(any());
+        verify(queryGateway).findAll(any());
     }
 
     @Test
@@ -95,6 +95,6 @@ public class ListGenresUseCaseIT {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        verify(genreGateway).findAll(any());
+        verify(queryGateway).findAll(any());
     }
 }
@@ -131,7 +131,7 @@ public class CategoryE2ETest implements MockDsl {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortToAllCategoriesDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByDescription() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
         Assertions.assertEquals(0, categoryRepository.count());
 
@@ -140,14 +140,9 @@ public class CategoryE2ETest implements MockDsl {
         givenACategory("Sports", "ESPN", true);
 
         listCategories(0, 3, "", "description", "desc")
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.current_page", equalTo(0)))
-                .andExpect(jsonPath("$.per_page", equalTo(3)))
-                .andExpect(jsonPath("$.total", equalTo(3)))
-                .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Movies")))
-                .andExpect(jsonPath("$.items[1].name", equalTo("Series")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Sports")));
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid sort 'description', expected one of: createdAt, created_at, id, name")));
 
     }
 
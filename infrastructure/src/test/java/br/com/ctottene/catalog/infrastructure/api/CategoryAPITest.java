@@ -1,8 +1,11 @@
 package br.com.ctottene.catalog.infrastructure.api;
 
 import br.com.ctottene.catalog.ControllerTest;
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesOutput;
+import br.com.ctottene.catalog.application.category.create.CreateCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryOutput;
 import br.com.ctottene.catalog.application.category.create.CreateCategoryUseCase;
+import br.com.ctottene.catalog.application.category.delete.DeleteCategoriesUseCase;
 import br.com.ctottene.catalog.application.category.delete.DeleteCategoryUseCase;
 import br.com.ctottene.catalog.application.category.retrieve.get.CategoryOutput;
 import br.com.ctottene.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
@@ -19,10 +22,12 @@ import br.com.ctottene.catalog.domain.validation.Error;
 import br.com.ctottene.catalog.domain.validation.handler.Notification;
 import br.com.ctottene.catalog.infrastructure.category.models.CreateCategoryRequest;
 import br.com.ctottene.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.ctottene.catalog.infrastructure.utils.ETagUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -62,6 +67,12 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
 
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() throws Exception {
@@ -203,6 +214,36 @@ public class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetByIdCategory_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getUpdatedAt());
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var firstResponse = this.mockMvc.perform(get("/categories/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse();
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     public void givenAnInvalidId_whenGetByIdCategory_thenShouldReturnNotFound() throws Exception {
         // given
@@ -431,4 +472,133 @@ public class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_thenShouldForwardItAndReturnNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedCursor = "bmFtZQo9TW92aWVzCjEyMw";
+        final var expectedNextCursor = "bmFtZQo9U2VyaWVzCjQ1Ng";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 1, 2, expectedItems, expectedNextCursor));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("perPage", "1")
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor()) && query.isKeyset()
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownCountMode_whenCallsListCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "Invalid count mode 'estimate', expected one of: estimated, exact, none";
+
+        // when
+        final var request = get("/categories")
+                .queryParam("count", "estimate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenValidInputs_whenCallsCreateCategories_thenShouldReturnCategoryIds() throws Exception {
+        // given
+        final var anInput = List.of(
+                new CreateCategoryRequest("Movies", "Most watched category", true),
+                new CreateCategoryRequest("Series", null, null)
+        );
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(Right(new CreateCategoriesOutput(List.of("123", "456"))));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.ids", hasSize(2)))
+                .andExpect(jsonPath("$.ids[1]", equalTo("456")));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmd ->
+                cmd.items().size() == 2
+                        && Objects.equals("Movies", cmd.items().get(0).name())
+                        && cmd.items().get(1).isActive()
+        ));
+    }
+
+    @Test
+    public void givenInvalidInputs_whenCallsCreateCategories_thenShouldReturnNotification() throws Exception {
+        // given
+        final var expectedMessage = "items[1]: 'name' should not be null";
+        final var anInput = List.of(
+                new CreateCategoryRequest("Movies", null, true),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(Left(Notification.create(new Error(expectedMessage))));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenValidIds_whenCallsDeleteCategories_thenShouldReturnNoContent() throws Exception {
+        // given
+        final var expectedIds = List.of("123", "456");
+
+        doNothing().when(deleteCategoriesUseCase).execute(any());
+
+        // when
+        final var request = delete("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(expectedIds));
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNoContent());
+
+        verify(deleteCategoriesUseCase, times(1)).execute(eq(expectedIds));
+    }
 }
@@ -0,0 +1,110 @@
+package br.com.ctottene.catalog.infrastructure.api;
+
+import br.com.ctottene.catalog.ControllerTest;
+import br.com.ctottene.catalog.infrastructure.export.ExportAggregate;
+import br.com.ctottene.catalog.infrastructure.export.ExportMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = ExportAPI.class)
+public class ExportAPITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportMySQLGateway exportGateway;
+
+    @Test
+    public void givenAValidAggregateAndSince_whenCallsExport_shouldStreamNdjson() throws Exception {
+        // given
+        final var expectedSince = Instant.parse("2024-01-01T00:00:00Z");
+        final var expectedBody = "{\"id\":\"123\"}\n";
+
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write(expectedBody.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportGateway).export(any(), any(), any());
+
+        // when
+        final var request = get("/export/categories")
+                .queryParam("since", expectedSince.toString());
+
+        final var started = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, ExportAPI.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(expectedBody));
+
+        verify(exportGateway, times(1)).export(eq(ExportAggregate.CATEGORIES), eq(expectedSince), any());
+    }
+
+    @Test
+    public void givenGzipAcceptEncoding_whenCallsExport_shouldCompressTheStream() throws Exception {
+        // given
+        final var expectedBody = "{\"id\":\"123\"}\n";
+
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write(expectedBody.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportGateway).export(any(), any(), any());
+
+        // when
+        final var request = get("/export/cast_members")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        final var started = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        final var response = this.mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Assertions.assertEquals(expectedBody, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        verify(exportGateway, times(1)).export(eq(ExportAggregate.CAST_MEMBERS), isNull(), any());
+    }
+
+    @Test
+    public void givenAnUnknownAggregate_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "Unknown aggregate 'videos'";
+
+        // when
+        final var response = this.mockMvc.perform(get("/export/videos"));
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(exportGateway, never()).export(any(), any(), any());
+    }
+}
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -207,6 +208,75 @@ public class GenreAPITest {
         verify(getGenreByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetByIdGenre_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Action", true)
+                .addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        final var firstResponse = this.mockMvc.perform(get("/genres/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse();
+        final var expectedETag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = get("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenACategoryRemovedByCascade_whenCallsGetByIdGenreWithTheOldETag_thenShouldReturnGenre() throws Exception {
+        // given
+        final var aGenre = Genre.newGenre("Action", true)
+                .addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var expectedId = aGenre.getId().getValue();
+        final var cascaded = Genre.with(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                List.of(CategoryID.from("123")),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt()
+        );
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(aGenre))
+                .thenReturn(GenreOutput.from(cascaded));
+
+        final var anOldETag = this.mockMvc.perform(get("/genres/{id}", expectedId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = get("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, anOldETag);
+
+        final var response = this.mockMvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(anOldETag)))
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of("123"))));
+    }
+
     @Test
     public void givenAnInvalidId_whenGetByIdGenre_thenShouldReturnNotFound() throws Exception {
         // given
@@ -0,0 +1,101 @@
+package br.com.ctottene.catalog.infrastructure.api;
+
+import br.com.ctottene.catalog.ControllerTest;
+import br.com.ctottene.catalog.infrastructure.imports.CatalogImporter;
+import br.com.ctottene.catalog.infrastructure.imports.ImportAggregate;
+import br.com.ctottene.catalog.infrastructure.imports.ImportFormat;
+import br.com.ctottene.catalog.infrastructure.imports.ImportReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = ImportAPI.class)
+public class ImportAPITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CatalogImporter catalogImporter;
+
+    @Test
+    public void givenACsvBody_whenCallsImport_shouldReturnTheReport() throws Exception {
+        // given
+        final var expectedReport = new ImportReport(
+                "cast_members", 2, 1, 1, 10, 200,
+                List.of(new ImportReport.LineError(3, List.of("'name' should not be empty"))),
+                false
+        );
+
+        when(catalogImporter.importFrom(any(), any(), any()))
+                .thenReturn(expectedReport);
+
+        // when
+        final var request = post("/imports/cast_members")
+                .contentType(ImportFormat.TEXT_CSV_VALUE)
+                .content("name,type\nKeanu Reeves,ACTOR\n,DIRECTOR\n");
+
+        final var response = this.mockMvc.perform(request);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.aggregate", equalTo("cast_members")))
+                .andExpect(jsonPath("$.imported", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.lines_per_second", equalTo(200)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(3)))
+                .andExpect(jsonPath("$.errors[0].messages[0]", equalTo("'name' should not be empty")));
+
+        verify(catalogImporter, times(1)).importFrom(eq(ImportAggregate.CAST_MEMBERS), eq(ImportFormat.CSV), any());
+    }
+
+    @Test
+    public void givenAnUnknownAggregate_whenCallsImport_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "Unknown aggregate 'genres'";
+
+        // when
+        final var request = post("/imports/genres")
+                .contentType(ImportFormat.APPLICATION_NDJSON_VALUE)
+                .content("{\"name\":\"Action\"}\n");
+
+        final var response = this.mockMvc.perform(request);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(catalogImporter, never()).importFrom(any(), any(), any());
+    }
+
+    @Test
+    public void givenAllImportWritersBusy_whenCallsImport_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        final var expectedErrorMessage = "Server is busy, retry later";
+
+        when(catalogImporter.importFrom(any(), any(), any()))
+                .thenThrow(new TaskRejectedException("Executor [import-writer-] did not accept task"));
+
+        // when
+        final var request = post("/imports/categories")
+                .contentType(ImportFormat.APPLICATION_NDJSON_VALUE)
+                .content("{\"name\":\"Movies\"}\n");
+
+        final var response = this.mockMvc.perform(request);
+
+        // then
+        response.andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+}
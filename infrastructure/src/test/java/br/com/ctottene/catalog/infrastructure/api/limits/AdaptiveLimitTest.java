@@ -0,0 +1,85 @@
+package br.com.ctottene.catalog.infrastructure.api.limits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    public void givenAFullLimit_whenCallsTryAcquire_shouldRejectAndCountIt() {
+        // given
+        final var limit = new AdaptiveLimit("reads", 2, 1, 10);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // when
+        final var actualAcquired = limit.tryAcquire();
+
+        // then
+        Assertions.assertFalse(actualAcquired);
+        Assertions.assertEquals(2, limit.getInFlight());
+        Assertions.assertEquals(1, limit.getRejected());
+    }
+
+    @Test
+    public void givenStableLatencyAtFullLoad_whenReleases_shouldGrowTheLimit() {
+        // given
+        final var limit = new AdaptiveLimit("reads", 10, 1, 100);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limit, FAST);
+        }
+
+        // then
+        Assertions.assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    public void givenGrowingLatency_whenReleases_shouldShrinkTheLimit() {
+        // given
+        final var limit = new AdaptiveLimit("reads", 50, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limit, FAST);
+        }
+        final var limitBefore = limit.getLimit();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            saturateAndRelease(limit, SLOW);
+        }
+
+        // then
+        Assertions.assertTrue(limit.getLimit() < limitBefore, "limit went from " + limitBefore + " to " + limit.getLimit());
+    }
+
+    @Test
+    public void givenFailures_whenReleases_shouldBackOffDownToTheMinimum() {
+        // given
+        final var limit = new AdaptiveLimit("writes", 10, 2, 100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, true);
+        }
+
+        // then
+        Assertions.assertEquals(2, limit.getLimit());
+    }
+
+    private static void saturateAndRelease(final AdaptiveLimit limit, final long rtt) {
+        var acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rtt, false);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.ctottene.catalog.infrastructure.api.limits;
+
+import br.com.ctottene.catalog.infrastructure.api.controllers.CacheController;
+import br.com.ctottene.catalog.infrastructure.api.controllers.ExportController;
+import br.com.ctottene.catalog.infrastructure.api.controllers.ImportController;
+import br.com.ctottene.catalog.infrastructure.cache.CacheRegistry;
+import br.com.ctottene.catalog.infrastructure.export.ExportMySQLGateway;
+import br.com.ctottene.catalog.infrastructure.imports.CatalogImporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.Mockito.mock;
+
+public class ConcurrencyLimitInterceptorTest {
+
+    private AdaptiveLimit reads;
+
+    private AdaptiveLimit writes;
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        this.reads = new AdaptiveLimit("reads", 1, 1, 1);
+        this.writes = new AdaptiveLimit("writes", 1, 1, 1);
+        this.interceptor = new ConcurrencyLimitInterceptor(reads, writes, Duration.ofSeconds(2));
+        this.handler = new HandlerMethod(new CacheController(new CacheRegistry()), "list");
+    }
+
+    @Test
+    public void givenAFullReadLimit_whenCallsPreHandle_shouldRejectWith503AndRetryAfter() throws Exception {
+        // given
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/caches"), new MockHttpServletResponse(), handler);
+        final var response = new MockHttpServletResponse();
+
+        // when
+        final var actualAdmitted = interceptor.preHandle(new MockHttpServletRequest("GET", "/caches"), response, handler);
+
+        // then
+        Assertions.assertFalse(actualAdmitted);
+        Assertions.assertEquals(503, response.getStatus());
+        Assertions.assertEquals("2", response.getHeader("Retry-After"));
+        Assertions.assertTrue(response.getContentAsString().contains("Too many concurrent reads"));
+    }
+
+    @Test
+    public void givenAFullReadLimit_whenCallsPreHandleForAWrite_shouldAdmitIt() throws Exception {
+        // given
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/caches"), new MockHttpServletResponse(), handler);
+
+        // when
+        final var actualAdmitted = interceptor.preHandle(new MockHttpServletRequest("POST", "/caches"), new MockHttpServletResponse(), handler);
+
+        // then
+        Assertions.assertTrue(actualAdmitted);
+        Assertions.assertEquals(1, reads.getInFlight());
+        Assertions.assertEquals(1, writes.getInFlight());
+    }
+
+    @Test
+    public void givenAnAdmittedRequest_whenCallsAfterCompletion_shouldReturnThePermit() throws Exception {
+        // given
+        final var request = new MockHttpServletRequest("GET", "/caches");
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+
+        // when
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        Assertions.assertEquals(0, reads.getInFlight());
+        Assertions.assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/caches"), new MockHttpServletResponse(), handler));
+    }
+
+    @Test
+    public void givenStreamingHandlers_whenCallsPreHandle_shouldAdmitThemWithoutTakingAPermit() throws Exception {
+        // given
+        final var export = new HandlerMethod(new ExportController(mock(ExportMySQLGateway.class)), "export", String.class, Instant.class, String.class);
+        final var importFile = new HandlerMethod(new ImportController(mock(CatalogImporter.class)), "importFile", String.class, String.class, InputStream.class);
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/caches"), new MockHttpServletResponse(), handler);
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/caches"), new MockHttpServletResponse(), handler);
+
+        // when
+        final var exportRequest = new MockHttpServletRequest("GET", "/exports/categories");
+        final var importRequest = new MockHttpServletRequest("POST", "/imports/categories");
+        final var exportAdmitted = interceptor.preHandle(exportRequest, new MockHttpServletResponse(), export);
+        final var importAdmitted = interceptor.preHandle(importRequest, new MockHttpServletResponse(), importFile);
+        interceptor.afterCompletion(exportRequest, new MockHttpServletResponse(), export, null);
+        interceptor.afterCompletion(importRequest, new MockHttpServletResponse(), importFile, null);
+
+        // then
+        Assertions.assertTrue(exportAdmitted);
+        Assertions.assertTrue(importAdmitted);
+        Assertions.assertEquals(1, reads.getInFlight());
+        Assertions.assertEquals(1, writes.getInFlight());
+    }
+}
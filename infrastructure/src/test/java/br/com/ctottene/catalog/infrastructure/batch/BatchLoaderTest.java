@@ -0,0 +1,115 @@
+package br.com.ctottene.catalog.infrastructure.batch;
+
+import br.com.ctottene.catalog.domain.utils.IdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public class BatchLoaderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        scheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void givenConcurrentLoadsWithinTheWindow_whenCallsLoad_shouldResolveThemInOneBatch() throws Exception {
+        // given
+        final var loader = new BatchLoader<String, String>(this::upperExceptMissing, String::toLowerCase, UnaryOperator.identity(), Duration.ofMillis(200), 64, scheduler);
+
+        // when
+        final var futures = new ArrayList<CompletableFuture<Optional<String>>>();
+        for (final var key : List.of("a", "b", "a", "missing")) {
+            futures.add(CompletableFuture.supplyAsync(() -> loader.load(key), executor));
+        }
+
+        // then
+        Assertions.assertEquals(Optional.of("A"), futures.get(0).get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(Optional.of("B"), futures.get(1).get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(Optional.of("A"), futures.get(2).get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(Optional.empty(), futures.get(3).get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(3, batches.get(0).size());
+    }
+
+    @Test
+    public void givenMaxKeysPending_whenCallsLoad_shouldNotWaitForTheWindow() {
+        // given
+        final var loader = new BatchLoader<String, String>(this::upperExceptMissing, String::toLowerCase, UnaryOperator.identity(), Duration.ofMinutes(1), 1, scheduler);
+
+        // when
+        final var actualValue = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2), () -> loader.load("a"));
+
+        // then
+        Assertions.assertEquals(Optional.of("A"), actualValue);
+        Assertions.assertEquals(List.of(List.of("a")), batches);
+    }
+
+    @Test
+    public void givenADashedUppercaseKey_whenCallsLoad_shouldMatchTheCanonicalKeyOfTheLoadedValue() throws Exception {
+        // given
+        final var anId = "0189e7a4c3b27c1d9f3e5a6b7c8d9e0f";
+        final var aLegacyId = "0189E7A4-C3B2-7C1D-9F3E-5A6B7C8D9E0F";
+        final var loader = new BatchLoader<String, String>(keys -> {
+            batches.add(keys);
+            return List.of(anId);
+        }, Function.identity(), IdUtils::normalize, Duration.ofMillis(200), 64, scheduler);
+
+        // when
+        final var legacy = CompletableFuture.supplyAsync(() -> loader.load(aLegacyId), executor);
+        final var canonical = CompletableFuture.supplyAsync(() -> loader.load(anId), executor);
+
+        // then
+        Assertions.assertEquals(Optional.of(anId), legacy.get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(Optional.of(anId), canonical.get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of(anId)), batches);
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsLoad_shouldRethrowToTheCaller() {
+        // given
+        final var loader = new BatchLoader<String, String>(keys -> {
+            throw new IllegalStateException("boom");
+        }, String::toLowerCase, UnaryOperator.identity(), Duration.ofMillis(1), 64, scheduler);
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> loader.load("a"));
+
+        // then
+        Assertions.assertEquals("boom", actualException.getMessage());
+    }
+
+    private List<String> upperExceptMissing(final List<String> keys) {
+        batches.add(keys);
+        return keys.stream()
+                .filter(it -> !it.equals("missing"))
+                .map(String::toUpperCase)
+                .toList();
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import br.com.ctottene.catalog.infrastructure.utils.BinaryIdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class IdMembershipIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:id_index;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "")
+    );
+
+    private final IdMembershipIndex index = new IdMembershipIndex(jdbcTemplate, "ids");
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE ids (id BINARY(16) NOT NULL PRIMARY KEY)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE ids");
+    }
+
+    @Test
+    public void givenAStoredOldId_whenCallsCandidatesWithMixedCaseOrDashes_shouldKeepIt() {
+        // given
+        final var anId = "000000000001" + "7abc" + "8000000000c0ffee";
+        final var anUnknownId = "000000000001" + "7abc" + "8000000000000bad";
+        jdbcTemplate.update("INSERT INTO ids (id) VALUES (?)", (Object) BinaryIdUtils.toBytes(anId));
+        index.rebuild();
+
+        final var upperCase = anId.toUpperCase();
+        final var mixedCaseDashed = "00000000-0001-7ABC-8000-000000C0ffee";
+
+        // when
+        final var actualCandidates = index.candidates(
+                List.of(anId, upperCase, mixedCaseDashed, anUnknownId),
+                Function.identity()
+        );
+
+        // then
+        Assertions.assertEquals(List.of(anId, upperCase, mixedCaseDashed), actualCandidates);
+    }
+
+    @Test
+    public void givenAnIdAddedInUpperCase_whenCallsCandidatesInLowerCase_shouldKeepIt() {
+        // given
+        final var anId = "000000000001" + "7abc" + "8000000000c0ffee";
+        index.rebuild();
+        index.add(anId.toUpperCase());
+
+        // when
+        final var actualCandidates = index.candidates(List.of(anId), Function.identity());
+
+        // then
+        Assertions.assertEquals(List.of(anId), actualCandidates);
+    }
+}
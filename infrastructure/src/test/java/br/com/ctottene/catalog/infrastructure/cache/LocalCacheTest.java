@@ -0,0 +1,61 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void givenACachedValue_whenCallsGet_shouldCountHitsAndMisses() {
+        // given
+        final var cache = new LocalCache<String, String>("test", 10, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "A");
+
+        // when
+        final var actualHit = cache.get("a");
+        final var actualMiss = cache.get("b");
+
+        // then
+        Assertions.assertEquals("A", actualHit.get());
+        Assertions.assertTrue(actualMiss.isEmpty());
+        Assertions.assertEquals(new CacheStats("test", 1, 10, 1, 1, 0), cache.stats());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallsPut_shouldEvictTheLeastRecentlyRead() {
+        // given
+        final var cache = new LocalCache<String, String>("test", 2, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+
+        // when
+        cache.put("c", "C");
+
+        // then
+        Assertions.assertTrue(cache.get("a").isPresent());
+        Assertions.assertTrue(cache.get("b").isEmpty());
+        Assertions.assertTrue(cache.get("c").isPresent());
+        Assertions.assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void givenAnExpiredValue_whenCallsGet_shouldEvictAndMiss() {
+        // given
+        final var cache = new LocalCache<String, String>("test", 10, Duration.ofSeconds(5), clock::get);
+        cache.put("a", "A");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // when
+        final var actualValue = cache.get("a");
+
+        // then
+        Assertions.assertTrue(actualValue.isEmpty());
+        Assertions.assertEquals(new CacheStats("test", 0, 10, 0, 1, 1), cache.stats());
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.ctottene.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenALoadInFlight_whenCallsLoadForTheSameKey_shouldShareTheResult() throws Exception {
+        // given
+        final var flights = new SingleFlight<String, String>("test");
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var calls = new AtomicInteger();
+
+        final var leader = CompletableFuture.supplyAsync(() -> flights.load("a", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "A";
+        }), executor);
+        Assertions.assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        // when
+        final var follower = CompletableFuture.supplyAsync(() -> flights.load("a", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }), executor);
+        while (flights.stats().collapsed() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        Assertions.assertEquals("A", leader.get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals("A", follower.get(2, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(new FlightStats("test", 0, 1, 1), flights.stats());
+    }
+
+    @Test
+    public void givenAFailedLoad_whenCallsLoadAgain_shouldStartANewOne() {
+        // given
+        final var flights = new SingleFlight<String, String>("test");
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> flights.load("a", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        final var actualValue = flights.load("a", () -> "A");
+
+        // then
+        Assertions.assertEquals("boom", actualException.getMessage());
+        Assertions.assertEquals("A", actualValue);
+        Assertions.assertEquals(new FlightStats("test", 0, 2, 0), flights.stats());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import br.com.ctottene.catalog.MySQLGatewayTest;
 import br.com.ctottene.catalog.domain.castmember.CastMember;
 import br.com.ctottene.catalog.domain.castmember.CastMemberID;
 import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberRepository;
@@ -14,7 +15,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 public class CastMemberMySQLGatewayTest {
@@ -196,6 +199,32 @@ public class CastMemberMySQLGatewayTest {
         Assertions.assertEquals(expectedTotal, actualPage.items().size());
     }
 
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid sort 'updatedAt', expected one of: createdAt, created_at, id, name, type";
+        final var query = new SearchQuery(0, 10, "", "updatedAt", "asc");
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> castMemberGateway.findAll(query));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid sort direction 'sideways'";
+        final var query = new SearchQuery(0, 10, "", "name", "sideways");
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> castMemberGateway.findAll(query));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "Jam,0,10,1,1,James Cameron",
@@ -303,6 +332,30 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenMoreIdsThanOneChunk_whenCallsExistsByIds_shouldReturnOnlyPersistedIds() {
+        // given
+        final var scarlett = CastMember.newCastMember("Scarlett Johansson", CastMemberType.ACTOR);
+        final var james = CastMember.newCastMember("James Cameron", CastMemberType.DIRECTOR);
+
+        repository.saveAllAndFlush(List.of(CastMemberJpaEntity.from(scarlett), CastMemberJpaEntity.from(james)));
+
+        final var ids = new ArrayList<CastMemberID>();
+        for (int i = 0; i < 1_200; i++) {
+            ids.add(CastMemberID.unique());
+        }
+        ids.add(scarlett.getId());
+        ids.add(james.getId());
+        ids.add(scarlett.getId());
+
+        // when
+        final var actualResult = castMemberGateway.existsByIds(ids);
+
+        // then
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertTrue(actualResult.containsAll(List.of(scarlett.getId(), james.getId())));
+    }
+
     private void mockCastMembers() {
         repository.saveAllAndFlush(List.of(
                 CastMemberJpaEntity.from(CastMember.newCastMember("Scarlett Johansson", CastMemberType.ACTOR)),
@@ -312,4 +365,27 @@ public class CastMemberMySQLGatewayTest {
                 CastMemberJpaEntity.from(CastMember.newCastMember("Ryan Reynolds", CastMemberType.ACTOR))
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenManyValidCastMembers_whenCallsCreateAll_shouldPersistAllInBatches() {
+        // given
+        final var expectedCount = 1_500;
+        final var castMembers = IntStream.range(0, expectedCount)
+                .mapToObj(i -> CastMember.newCastMember("Member " + i, i % 2 == 0 ? CastMemberType.ACTOR : CastMemberType.DIRECTOR))
+                .toList();
+
+        Assertions.assertEquals(0, repository.count());
+
+        // when
+        final var actualCastMembers = castMemberGateway.createAll(castMembers);
+
+        // then
+        Assertions.assertEquals(expectedCount, actualCastMembers.size());
+        Assertions.assertEquals(expectedCount, repository.count());
+
+        final var expected = castMembers.get(3);
+        final var actualEntity = repository.findById(expected.getId().getValue()).orElseThrow();
+        Assertions.assertEquals(expected.getName(), actualEntity.getName());
+        Assertions.assertEquals(CastMemberType.DIRECTOR, actualEntity.getType());
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+import br.com.ctottene.catalog.infrastructure.cache.SingleFlight;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private LocalCache<CategoryID, Category> cache;
+
+    private LocalCache<CategoryID, Boolean> notFound;
+
+    private final AtomicInteger afterDelete = new AtomicInteger();
+
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new LocalCache<>("categories", 10, Duration.ofMinutes(1));
+        this.notFound = new LocalCache<>("categories.not_found", 10, Duration.ofSeconds(30));
+        this.gateway = new CachingCategoryGateway(delegate, cache, notFound, new Generation(), new SingleFlight<>("categories"), afterDelete::incrementAndGet);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_shouldNotHitDelegateAndReturnCopies() {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        // when
+        final var firstRead = gateway.findById(expectedId).get();
+        firstRead.update("Changed", "Changed", false);
+        final var secondRead = gateway.findById(expectedId).get();
+
+        // then
+        Assertions.assertNotSame(firstRead, secondRead);
+        Assertions.assertEquals("Movies", secondRead.getName());
+        Assertions.assertTrue(secondRead.isActive());
+        Assertions.assertEquals(1, cache.stats().hits());
+        Assertions.assertEquals(1, cache.stats().misses());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldInvalidateIt() {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+        gateway.findById(expectedId);
+
+        // when
+        gateway.update(Category.with(aCategory).update("Movies", "Updated", true));
+        gateway.findById(expectedId);
+
+        // then
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldInvalidateIt() {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory)).thenReturn(Optional.empty());
+        gateway.findById(expectedId);
+
+        // when
+        gateway.deleteById(expectedId);
+        final var actualCategory = gateway.findById(expectedId);
+
+        // then
+        Assertions.assertTrue(actualCategory.isEmpty());
+        Assertions.assertEquals(1, afterDelete.get());
+        verify(delegate).deleteById(expectedId);
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindByIdTwice_shouldHitDelegateOnce() {
+        // given
+        final var expectedId = CategoryID.from("123");
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+        // when
+        final var firstRead = gateway.findById(expectedId);
+        final var secondRead = gateway.findById(expectedId);
+
+        // then
+        Assertions.assertTrue(firstRead.isEmpty());
+        Assertions.assertTrue(secondRead.isEmpty());
+        Assertions.assertEquals(1, notFound.stats().hits());
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsCreate_shouldForgetTheMiss() {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty()).thenReturn(Optional.of(aCategory));
+        when(delegate.create(any())).thenAnswer(returnsFirstArg());
+        gateway.findById(expectedId);
+
+        // when
+        gateway.create(aCategory);
+        final var actualCategory = gateway.findById(expectedId);
+
+        // then
+        Assertions.assertTrue(actualCategory.isPresent());
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    public void givenASlowLoad_whenCallsUpdateBeforeItReturns_shouldNotCacheTheStaleCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedId = aCategory.getId();
+        final var staleCategory = Category.with(aCategory);
+        final var updatedCategory = Category.with(aCategory).update("Movies", "Updated", true);
+
+        final var loading = new CountDownLatch(1);
+        final var updated = new CountDownLatch(1);
+        when(delegate.findById(expectedId))
+                .thenAnswer(it -> {
+                    loading.countDown();
+                    Assertions.assertTrue(updated.await(5, TimeUnit.SECONDS));
+                    return Optional.of(staleCategory);
+                })
+                .thenReturn(Optional.of(updatedCategory));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        final var slowRead = CompletableFuture.supplyAsync(() -> gateway.findById(expectedId));
+        Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when
+        gateway.update(updatedCategory);
+        updated.countDown();
+        final var staleRead = slowRead.get(5, TimeUnit.SECONDS);
+        final var actualCategory = gateway.findById(expectedId);
+
+        // then
+        Assertions.assertEquals("Most watched category", staleRead.get().getDescription());
+        Assertions.assertEquals("Updated", actualCategory.get().getDescription());
+        verify(delegate, times(2)).findById(expectedId);
+    }
+}
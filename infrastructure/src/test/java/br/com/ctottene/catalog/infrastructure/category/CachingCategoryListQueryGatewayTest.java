@@ -0,0 +1,74 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListOutput;
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListQueryGateway;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.cache.Generation;
+import br.com.ctottene.catalog.infrastructure.cache.LocalCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryListQueryGatewayTest {
+
+    @Mock
+    private CategoryListQueryGateway delegate;
+
+    private Generation generation;
+
+    private CachingCategoryListQueryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.generation = new Generation();
+        this.gateway = new CachingCategoryListQueryGateway(
+                delegate,
+                new LocalCache<>("categories.pages", 10, Duration.ofSeconds(10)),
+                generation
+        );
+    }
+
+    @Test
+    public void givenTheSameQuery_whenCallsFindAllTwice_shouldQueryOnce() {
+        // given
+        final var expectedPage = new Pagination<CategoryListOutput>(0, 10, 0, List.of());
+
+        when(delegate.findAll(any())).thenReturn(expectedPage);
+
+        // when
+        final var firstPage = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+        final var secondPage = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertSame(expectedPage, firstPage);
+        Assertions.assertSame(expectedPage, secondPage);
+        verify(delegate, times(1)).findAll(any());
+    }
+
+    @Test
+    public void givenACachedPage_whenGenerationIsBumped_shouldQueryAgain() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        gateway.findAll(aQuery);
+
+        // when
+        generation.bump();
+        gateway.findAll(aQuery);
+
+        // then
+        verify(delegate, times(2)).findAll(aQuery);
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.ctottene.catalog.infrastructure.category;
+
+import br.com.ctottene.catalog.MySQLGatewayTest;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.pagination.CountMode;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@MySQLGatewayTest
+public class CategoryListQueryMySQLGatewayTest {
+
+    @Autowired
+    private CategoryListQueryMySQLGateway queryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAll_shouldReturnListOutputsWithoutManagingEntities() {
+        // given
+        final var movies = Category.newCategory("Movies", "Most watched", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+        entityManager.clear();
+
+        // when
+        final var actualPage = queryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(movies.getId(), actualPage.items().get(0).id());
+        Assertions.assertEquals("Most watched", actualPage.items().get(0).description());
+        Assertions.assertTrue(actualPage.items().get(0).isActive());
+        Assertions.assertEquals(series.getId(), actualPage.items().get(1).id());
+        Assertions.assertFalse(actualPage.items().get(1).isActive());
+        Assertions.assertNotNull(actualPage.items().get(1).deletedAt());
+
+        Assertions.assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void givenFollowCursor_whenCallsFindAll_shouldPageThroughProjections() {
+        // given
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        // when
+        final var firstPage = queryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", "", CountMode.NONE));
+        final var secondPage = queryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", firstPage.nextCursor(), CountMode.NONE));
+
+        // then
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(List.of("Documentaries", "Movies"), firstPage.items().stream().map(it -> it.name()).toList());
+        Assertions.assertFalse(secondPage.hasNext());
+        Assertions.assertEquals(List.of("Series"), secondPage.items().stream().map(it -> it.name()).toList());
+    }
+}
@@ -3,14 +3,22 @@ package br.com.ctottene.catalog.infrastructure.category;
 import br.com.ctottene.catalog.MySQLGatewayTest;
 import br.com.ctottene.catalog.domain.category.Category;
 import br.com.ctottene.catalog.domain.category.CategoryID;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.pagination.CountMode;
+import br.com.ctottene.catalog.domain.pagination.Pagination;
 import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
@@ -21,6 +29,12 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Movies";
@@ -248,6 +262,132 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(series.getId(), actualResults.items().get(0).getId());
     }
 
+    @Test
+    public void givenFollowCursor_whenCallsFindAllAllPages_shouldReturnKeysetPaginated() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", "Less watched category", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        // First page
+        var query = new SearchQuery(0, 1, "", "name", "desc", "");
+        var actualResults = categoryGateway.findAll(query);
+        Assertions.assertEquals(expectedPerPage, actualResults.perPage());
+        Assertions.assertEquals(expectedTotal, actualResults.total());
+        Assertions.assertEquals(series.getId(), actualResults.items().get(0).getId());
+        Assertions.assertNotNull(actualResults.nextCursor());
+
+        // Second page
+        query = new SearchQuery(0, 1, "", "name", "desc", actualResults.nextCursor());
+        actualResults = categoryGateway.findAll(query);
+        Assertions.assertEquals(expectedTotal, actualResults.total());
+        Assertions.assertEquals(movies.getId(), actualResults.items().get(0).getId());
+        Assertions.assertNotNull(actualResults.nextCursor());
+
+        // Last page
+        query = new SearchQuery(0, 1, "", "name", "desc", actualResults.nextCursor());
+        actualResults = categoryGateway.findAll(query);
+        Assertions.assertEquals(expectedTotal, actualResults.total());
+        Assertions.assertEquals(documentaries.getId(), actualResults.items().get(0).getId());
+        Assertions.assertNull(actualResults.nextCursor());
+    }
+
+    @Test
+    public void givenAnOffsetPage_whenCallsFindAllWithItsNextCursor_shouldReturnTheFollowingPage() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        Assertions.assertEquals(2, firstPage.items().size());
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var actualResults = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", firstPage.nextCursor()));
+        Assertions.assertEquals(1, actualResults.items().size());
+        Assertions.assertEquals(series.getId(), actualResults.items().get(0).getId());
+        Assertions.assertNull(actualResults.nextCursor());
+    }
+
+    @Test
+    public void givenAnUnindexedSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Invalid sort 'description', expected one of: createdAt, created_at, id, name";
+        final var query = new SearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Invalid cursor";
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+        final var query = new SearchQuery(0, 1, "", "createdAt", "asc", aCursor);
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAll_shouldSkipTotalAndReturnHasNext() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true))
+        ));
+
+        var query = new SearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE);
+        var actualResults = categoryGateway.findAll(query);
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResults.total());
+        Assertions.assertEquals(2, actualResults.items().size());
+        Assertions.assertTrue(actualResults.hasNext());
+        Assertions.assertTrue(actualResults.isApproximate());
+
+        query = new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE);
+        actualResults = categoryGateway.findAll(query);
+        Assertions.assertEquals(1, actualResults.items().size());
+        Assertions.assertFalse(actualResults.hasNext());
+    }
+
+    @Test
+    public void givenCountModeEstimated_whenCallsFindAll_shouldReturnApproximateTotal() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true))
+        ));
+
+        final var query = new SearchQuery(0, 1, "ies", "name", "asc", null, CountMode.ESTIMATED);
+        final var actualResults = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(3, actualResults.total());
+        Assertions.assertEquals(1, actualResults.items().size());
+        Assertions.assertTrue(actualResults.hasNext());
+        Assertions.assertTrue(actualResults.isApproximate());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchesCategoryName_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -304,6 +444,30 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(movies.getId(), actualResults.items().get(0).getId());
     }
 
+    @Test
+    public void givenRelevanceSort_whenCallsFindAllWithTerms_shouldReturnMatchesWithoutCursor() {
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        final var series = Category.newCategory("Series", "Watched category", true);
+        final var documentaries = Category.newCategory("Documentaries", "Less popular", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var query = new SearchQuery(0, 1, "watched", "relevance", "desc");
+        final var actualResults = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResults.total());
+        Assertions.assertEquals(movies.getId(), actualResults.items().get(0).getId());
+        Assertions.assertTrue(actualResults.hasNext());
+        Assertions.assertNull(actualResults.nextCursor());
+
+        final var keysetQuery = new SearchQuery(0, 1, "watched", "relevance", "desc", "");
+        Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(keysetQuery));
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         // given
@@ -333,4 +497,130 @@ public class CategoryMySQLGatewayTest {
                         expectedIds.containsAll(actualResult)
         );
     }
+
+    @Test
+    public void givenManyValidCategories_whenCallsCreateAll_shouldPersistAllInBatches() {
+        // given
+        final var expectedCount = 2_500;
+        final var categories = IntStream.range(0, expectedCount)
+                .mapToObj(i -> Category.newCategory("Category " + i, i % 2 == 0 ? null : "Description " + i, i % 3 != 0))
+                .toList();
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        // when
+        final var actualCategories = categoryGateway.createAll(categories);
+
+        // then
+        Assertions.assertEquals(expectedCount, actualCategories.size());
+        Assertions.assertEquals(expectedCount, categoryRepository.count());
+
+        final var expected = categories.get(3);
+        final var actualEntity = categoryRepository.findById(expected.getId().getValue()).orElseThrow();
+        Assertions.assertEquals(expected.getName(), actualEntity.getName());
+        Assertions.assertEquals(expected.getDescription(), actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actualEntity.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actualEntity.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyGivenIds() {
+        // given
+        final var categories = IntStream.range(0, 1_200)
+                .mapToObj(i -> Category.newCategory("Category " + i, null, true))
+                .toList();
+        categoryGateway.createAll(categories);
+
+        final var ids = categories.subList(0, 1_100).stream()
+                .map(Category::getId)
+                .toList();
+
+        // when
+        categoryGateway.deleteAllById(ids);
+
+        // then
+        Assertions.assertEquals(100, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(categories.get(1_150).getId().getValue()));
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldStoreItsIdAsSixteenBytes() {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        // when
+        categoryGateway.create(aCategory);
+        categoryRepository.flush();
+
+        // then
+        final var actualId = jdbcTemplate.queryForObject(
+                "SELECT id FROM categories WHERE name = ?",
+                byte[].class,
+                aCategory.getName()
+        );
+        Assertions.assertEquals(16, actualId.length);
+        Assertions.assertEquals(aCategory.getId(), categoryGateway.findById(aCategory.getId()).orElseThrow().getId());
+        Assertions.assertEquals(32, aCategory.getId().getValue().length());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreateUpdateAndDelete_shouldIssueOneStatementEach() {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        categoryRepository.flush();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        categoryGateway.create(aCategory);
+        categoryRepository.flush();
+        final var afterCreate = statistics.getPrepareStatementCount();
+
+        categoryGateway.update(Category.with(aCategory).update("Films", "Films", false));
+        final var afterUpdate = statistics.getPrepareStatementCount();
+
+        categoryGateway.deleteById(aCategory.getId());
+        final var afterDelete = statistics.getPrepareStatementCount();
+
+        // then
+        Assertions.assertEquals(1, afterCreate);
+        Assertions.assertEquals(1, afterUpdate - afterCreate);
+        Assertions.assertEquals(1, afterDelete - afterUpdate);
+        Assertions.assertTrue(categoryRepository.findById(aCategory.getId().getValue()).isEmpty());
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenARebuiltIdIndex_whenCallsExistsByIdsWithOldUnknownIds_shouldNotQueryTheDatabase() {
+        // given
+        final var movies = Category.newCategory("Filmes", null, true);
+        final var anOldUnknownId = CategoryID.from("000000000001" + "7000" + "8000000000000000");
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(movies));
+        categoryGateway.rebuildIdIndex();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var onlyUnknown = categoryGateway.existsByIds(List.of(anOldUnknownId));
+        final var afterUnknown = statistics.getPrepareStatementCount();
+        final var mixed = categoryGateway.existsByIds(List.of(anOldUnknownId, movies.getId()));
+
+        // then
+        Assertions.assertTrue(onlyUnknown.isEmpty());
+        Assertions.assertEquals(0, afterUnknown);
+        Assertions.assertEquals(List.of(movies.getId()), mixed);
+
+        statistics.setStatisticsEnabled(false);
+    }
 }
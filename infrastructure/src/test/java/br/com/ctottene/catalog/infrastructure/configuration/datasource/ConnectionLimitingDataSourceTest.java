@@ -0,0 +1,50 @@
+package br.com.ctottene.catalog.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+public class ConnectionLimitingDataSourceTest {
+
+    private final ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:limiter;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", ""),
+            1,
+            Duration.ofMillis(50)
+    );
+
+    @Test
+    public void givenAllConnectionsBorrowed_whenCallsGetConnection_shouldTimeOut() throws Exception {
+        // given
+        try (final var borrowed = dataSource.getConnection()) {
+            Assertions.assertTrue(borrowed.isValid(1));
+
+            // when
+            final var actualException = Assertions.assertThrows(
+                    SQLTransientConnectionException.class,
+                    dataSource::getConnection
+            );
+
+            // then
+            Assertions.assertEquals("Timed out after 50 ms waiting for a database connection", actualException.getMessage());
+        }
+    }
+
+    @Test
+    public void givenAClosedConnection_whenCallsGetConnection_shouldReuseThePermit() throws Exception {
+        // given
+        final var aConnection = dataSource.getConnection();
+        aConnection.close();
+        aConnection.close();
+
+        // when
+        try (final var first = dataSource.getConnection()) {
+
+            // then
+            Assertions.assertTrue(first.isValid(1));
+            Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.ctottene.catalog.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+public class ReadOnlyRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @Test
+    public void givenAReadOnlyTransaction_whenQuerying_shouldUseTheReplica() {
+        // given
+        final var dataSource = routing(replica, true);
+
+        // when
+        final var actualNode = query(dataSource, true);
+
+        // then
+        Assertions.assertEquals("replica", actualNode);
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenQuerying_shouldUseThePrimary() {
+        // given
+        final var dataSource = routing(replica, true);
+
+        // when
+        final var actualNode = query(dataSource, false);
+
+        // then
+        Assertions.assertEquals("primary", actualNode);
+    }
+
+    @Test
+    public void givenAnUnavailableReplicaAndFallbackEnabled_whenQueryingReadOnly_shouldUseThePrimary() {
+        // given
+        final var dataSource = routing(unavailable(), true);
+
+        // when
+        final var actualNode = query(dataSource, true);
+
+        // then
+        Assertions.assertEquals("primary", actualNode);
+    }
+
+    @Test
+    public void givenAnUnavailableReplicaAndFallbackDisabled_whenQueryingReadOnly_shouldThrowAnException() {
+        // given
+        final var dataSource = routing(unavailable(), false);
+
+        // when
+        Assertions.assertThrows(DataAccessResourceFailureException.class, () -> query(dataSource, true));
+    }
+
+    private DataSource routing(final DataSource aReplica, final boolean fallbackToPrimary) {
+        return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primary, aReplica, fallbackToPrimary));
+    }
+
+    private static String query(final DataSource dataSource, final boolean readOnly) {
+        final var transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(final String name) {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_%s;DB_CLOSE_DELAY=-1".formatted(name));
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource unavailable() {
+        return new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE");
+    }
+}
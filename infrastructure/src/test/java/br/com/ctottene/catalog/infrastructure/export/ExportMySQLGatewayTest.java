@@ -0,0 +1,125 @@
+package br.com.ctottene.catalog.infrastructure.export;
+
+import br.com.ctottene.catalog.MySQLGatewayTest;
+import br.com.ctottene.catalog.domain.castmember.CastMember;
+import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.infrastructure.castmember.CastMemberMySQLGateway;
+import br.com.ctottene.catalog.infrastructure.category.CategoryMySQLGateway;
+import br.com.ctottene.catalog.infrastructure.configuration.json.Json;
+import br.com.ctottene.catalog.infrastructure.genre.GenreMySQLGateway;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+@MySQLGatewayTest
+public class ExportMySQLGatewayTest {
+
+    @Autowired
+    private ExportMySQLGateway exportGateway;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsExport_shouldWriteOneJsonLinePerCategory() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", "Most watched", true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, false));
+        entityManager.flush();
+
+        // when
+        final var out = new ByteArrayOutputStream();
+        final var actualCount = exportGateway.export(ExportAggregate.CATEGORIES, null, out);
+
+        // then
+        final var actualLines = lines(out);
+        Assertions.assertEquals(2, actualCount);
+        Assertions.assertEquals(2, actualLines.size());
+        Assertions.assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+
+        final var actualMovies = byId(actualLines, movies.getId().getValue());
+        Assertions.assertEquals("Movies", actualMovies.get("name").asText());
+        Assertions.assertEquals("Most watched", actualMovies.get("description").asText());
+        Assertions.assertTrue(actualMovies.get("is_active").asBoolean());
+        Assertions.assertTrue(actualMovies.get("deleted_at").isNull());
+
+        final var actualSeries = byId(actualLines, series.getId().getValue());
+        Assertions.assertFalse(actualSeries.get("is_active").asBoolean());
+        Assertions.assertFalse(actualSeries.get("deleted_at").isNull());
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsExport_shouldWriteGenresWithTheirCategoryIds() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var action = genreGateway.create(Genre.newGenre("Action", true)
+                .addCategories(List.of(movies.getId(), series.getId())));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+        entityManager.flush();
+
+        // when
+        final var out = new ByteArrayOutputStream();
+        final var actualCount = exportGateway.export(ExportAggregate.GENRES, null, out);
+
+        // then
+        final var actualLines = lines(out);
+        Assertions.assertEquals(2, actualCount);
+        Assertions.assertEquals(2, actualLines.size());
+
+        final var actualAction = byId(actualLines, action.getId().getValue());
+        Assertions.assertEquals(2, actualAction.get("categories_id").size());
+
+        final var actualDrama = byId(actualLines, drama.getId().getValue());
+        Assertions.assertEquals(0, actualDrama.get("categories_id").size());
+    }
+
+    @Test
+    public void givenASinceInstant_whenCallsExport_shouldSkipRowsUpdatedBeforeIt() {
+        // given
+        castMemberGateway.create(CastMember.newCastMember("Keanu Reeves", CastMemberType.ACTOR));
+        entityManager.flush();
+
+        // when
+        final var out = new ByteArrayOutputStream();
+        final var actualCount = exportGateway.export(ExportAggregate.CAST_MEMBERS, Instant.now().plusSeconds(60), out);
+
+        // then
+        Assertions.assertEquals(0, actualCount);
+        Assertions.assertEquals(0, out.size());
+    }
+
+    private static List<JsonNode> lines(final ByteArrayOutputStream out) {
+        return Arrays.stream(out.toString(StandardCharsets.UTF_8).split("\n"))
+                .filter(line -> !line.isBlank())
+                .map(line -> Json.readValue(line, JsonNode.class))
+                .toList();
+    }
+
+    private static JsonNode byId(final List<JsonNode> lines, final String anId) {
+        return lines.stream()
+                .filter(it -> anId.equals(it.get("id").asText()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.ctottene.catalog.infrastructure.genre;
+
+import br.com.ctottene.catalog.MySQLGatewayTest;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import br.com.ctottene.catalog.infrastructure.category.CategoryMySQLGateway;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@MySQLGatewayTest
+public class GenreListQueryMySQLGatewayTest {
+
+    @Autowired
+    private GenreListQueryMySQLGateway queryGateway;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldReturnListOutputsWithCategoryIds() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+
+        final var action = Genre.newGenre("Action", true).addCategories(List.of(movies.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(action), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+
+        // when
+        final var actualPage = queryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+
+        final var actualAction = actualPage.items().get(0);
+        Assertions.assertEquals(action.getId(), actualAction.id());
+        Assertions.assertTrue(actualAction.isActive());
+        Assertions.assertEquals(List.of(movies.getId().getValue()), actualAction.categories());
+
+        final var actualDrama = actualPage.items().get(1);
+        Assertions.assertEquals(drama.getId(), actualDrama.id());
+        Assertions.assertFalse(actualDrama.isActive());
+        Assertions.assertEquals(List.of(), actualDrama.categories());
+        Assertions.assertNotNull(actualDrama.deletedAt());
+    }
+}
@@ -9,12 +9,14 @@ import br.com.ctottene.catalog.domain.pagination.SearchQuery;
 import br.com.ctottene.catalog.infrastructure.category.CategoryMySQLGateway;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
 import java.util.Comparator;
 import java.util.List;
 
@@ -30,6 +32,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         Assertions.assertNotNull(categoryGateway);
@@ -311,6 +316,29 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateSwappingOneCategory_shouldKeepUnchangedLinks() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var documentaries = categoryGateway.create(Category.newCategory("Documentaries", null, true));
+
+        final var aGenre = Genre.newGenre("Action", true)
+                .addCategories(List.of(movies.getId(), series.getId()));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        final var expectedCategories = List.of(series.getId(), documentaries.getId());
+
+        // when
+        genreGateway.update(Genre.with(aGenre).update("Action", true, expectedCategories));
+
+        // then
+        final var actualCategories = genreRepository.findCategoriesByGenreIds(List.of(aGenre.getId().getValue())).stream()
+                .map(it -> CategoryID.from(it.getCategoryID()))
+                .toList();
+        Assertions.assertIterableEquals(sorted(expectedCategories), sorted(actualCategories));
+    }
+
     @Test
     public void givenAnInvalidGenre_whenCallsDeleteById_shouldReturnOK() {
         // given
@@ -371,6 +399,26 @@ public class GenreMySQLGatewayTest {
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenALegacyDashedUppercaseGenreId_whenCallsFindById_shouldReturnGenre() {
+        // given
+        final var aGenre = Genre.newGenre("Action", true);
+        final var expectedId = aGenre.getId();
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        final var hex = expectedId.getValue().toUpperCase();
+        final var aLegacyId = GenreID.from(hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-"
+                + hex.substring(12, 16) + "-" + hex.substring(16, 20) + "-" + hex.substring(20));
+
+        // when
+        final var actualGenre = genreGateway.findById(aLegacyId).get();
+
+        // then
+        Assertions.assertEquals(expectedId, aLegacyId);
+        Assertions.assertEquals(expectedId, actualGenre.getId());
+    }
+
     @Test
     public void givenAnInvalidGenreId_whenCallsFindById_shouldReturnEmpty() {
         // given
@@ -387,6 +435,37 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenPersistedGenres_whenCallsFindAllById_shouldReturnOnlyExistingWithTheirCategories() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var action = Genre.newGenre("Action", true);
+        action.addCategories(List.of(movies.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(action), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+
+        final var expectedCategories = List.of(movies.getId(), series.getId()).stream()
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+
+        // when
+        final var actualGenres = genreGateway.findAllById(List.of(action.getId(), drama.getId(), GenreID.from("123")));
+
+        // then
+        Assertions.assertEquals(2, actualGenres.size());
+
+        final var actualAction = actualGenres.stream().filter(it -> it.getId().equals(action.getId())).findFirst().get();
+        final var actualDrama = actualGenres.stream().filter(it -> it.getId().equals(drama.getId())).findFirst().get();
+        Assertions.assertEquals(expectedCategories, actualAction.getCategories().stream()
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList());
+        Assertions.assertTrue(actualDrama.getCategories().isEmpty());
+    }
+
     @Test
     public void givenEmptyGenres_whenCallFindAll_shouldReturnEmptyList() {
         // given
@@ -517,6 +596,57 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldLoadPageAndCategoriesInTwoStatements() {
+        // given
+        final var movies = categoryGateway.create(Category.newCategory("Movies", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(Genre.newGenre("Action", true).addCategories(List.of(movies.getId(), series.getId()))),
+                GenreJpaEntity.from(Genre.newGenre("Comedy", true).addCategories(List.of(movies.getId()))),
+                GenreJpaEntity.from(Genre.newGenre("Drama", true).addCategories(List.of(series.getId()))),
+                GenreJpaEntity.from(Genre.newGenre("Terror", true))
+        ));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(4, actualPage.total());
+        Assertions.assertEquals(sorted(List.of(movies.getId(), series.getId())), sorted(actualPage.items().get(0).getCategories()));
+        Assertions.assertEquals(List.of(movies.getId()), actualPage.items().get(1).getCategories());
+        Assertions.assertEquals(List.of(series.getId()), actualPage.items().get(2).getCategories());
+        Assertions.assertEquals(List.of(), actualPage.items().get(3).getCategories());
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsExistsByIds_shouldReturnIds() {
+        // given
+        final var action = Genre.newGenre("Action", true);
+        final var drama = Genre.newGenre("Drama", true);
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(action), GenreJpaEntity.from(drama)));
+
+        final var ids = List.of(action.getId(), GenreID.from("123"));
+
+        // when
+        final var actualResult = genreGateway.existsByIds(ids);
+
+        // then
+        Assertions.assertEquals(List.of(action.getId()), actualResult);
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comedy", true)),
@@ -0,0 +1,71 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import br.com.ctottene.catalog.IntegrationTest;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.CastMemberListOutput;
+import br.com.ctottene.catalog.application.castmember.retrieve.list.ListCastMembersUseCase;
+import br.com.ctottene.catalog.application.category.retrieve.list.CategoryListOutput;
+import br.com.ctottene.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import br.com.ctottene.catalog.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "catalog.cache.categories.list-max-staleness=1m",
+        "catalog.cache.cast-members.list-max-staleness=1m"
+})
+public class CatalogImporterIT {
+
+    @Autowired
+    private CatalogImporter importer;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private ListCastMembersUseCase listCastMembersUseCase;
+
+    @Test
+    public void givenACachedCategoryPage_whenCallsImport_shouldListImportedCategories() {
+        // given
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+        Assertions.assertEquals(0, listCategoriesUseCase.execute(query).total());
+
+        final var body = ndjson("{\"name\":\"Movies\"}", "{\"name\":\"Series\"}");
+
+        // when
+        importer.importFrom(ImportAggregate.CATEGORIES, ImportFormat.NDJSON, body);
+
+        // then
+        final var actualPage = listCategoriesUseCase.execute(query);
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Movies", "Series"), actualPage.items().stream().map(CategoryListOutput::name).toList());
+    }
+
+    @Test
+    public void givenACachedCastMemberPage_whenCallsImport_shouldListImportedCastMembers() {
+        // given
+        final var query = new SearchQuery(0, 10, "", "name", "asc");
+        Assertions.assertEquals(0, listCastMembersUseCase.execute(query).total());
+
+        final var body = ndjson("{\"name\":\"Henry Cavill\",\"type\":\"ACTOR\"}");
+
+        // when
+        importer.importFrom(ImportAggregate.CAST_MEMBERS, ImportFormat.NDJSON, body);
+
+        // then
+        final var actualPage = listCastMembersUseCase.execute(query);
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(List.of("Henry Cavill"), actualPage.items().stream().map(CastMemberListOutput::name).toList());
+    }
+
+    private static ByteArrayInputStream ndjson(final String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,204 @@
+package br.com.ctottene.catalog.infrastructure.imports;
+
+import br.com.ctottene.catalog.domain.castmember.CastMemberGateway;
+import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogImporterTest {
+
+    private static final ExecutorService VALIDATORS = Executors.newFixedThreadPool(2);
+
+    private static final ExecutorService WRITERS = Executors.newFixedThreadPool(1);
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    private CatalogImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        this.importer = new CatalogImporter(categoryGateway, castMemberGateway, 10, 2, 100, VALIDATORS, WRITERS);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        VALIDATORS.shutdownNow();
+        WRITERS.shutdownNow();
+    }
+
+    @Test
+    public void givenNoWriterAvailable_whenCallsImport_shouldRejectBeforeReadingTheBody() {
+        // given
+        final Executor fullWriters = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        final var anImporter = new CatalogImporter(categoryGateway, castMemberGateway, 10, 2, 100, VALIDATORS, fullWriters);
+        final var body = new ByteArrayInputStream("{\"name\":\"Movies\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> anImporter.importFrom(ImportAggregate.CATEGORIES, ImportFormat.NDJSON, body)
+        );
+
+        // then
+        Assertions.assertTrue(body.available() > 0);
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAnNdjsonFileWithInvalidLines_whenCallsImport_shouldInsertValidOnesAndReportTheOthers() {
+        // given
+        final var written = Collections.synchronizedList(new ArrayList<Category>());
+        when(categoryGateway.createAll(any())).thenAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        final var validLines = IntStream.range(0, 25)
+                .mapToObj(i -> "{\"name\":\"Category %d\",\"description\":\"Description\",\"is_active\":%s}".formatted(i, i % 2 == 0))
+                .collect(Collectors.toList());
+        validLines.add(3, "{\"name\":\" \"}");
+        validLines.add(7, "not json");
+        validLines.add(9, "");
+
+        // when
+        final var actualReport = importer.importFrom(ImportAggregate.CATEGORIES, ImportFormat.NDJSON, stream(validLines));
+
+        // then
+        Assertions.assertEquals("categories", actualReport.aggregate());
+        Assertions.assertEquals(27, actualReport.lines());
+        Assertions.assertEquals(25, actualReport.imported());
+        Assertions.assertEquals(2, actualReport.failed());
+        Assertions.assertFalse(actualReport.errorsTruncated());
+
+        Assertions.assertEquals(4, actualReport.errors().get(0).line());
+        Assertions.assertEquals(List.of("'name' should not be empty"), actualReport.errors().get(0).messages());
+        Assertions.assertEquals(8, actualReport.errors().get(1).line());
+        Assertions.assertEquals(List.of("Malformed NDJSON line"), actualReport.errors().get(1).messages());
+
+        Assertions.assertEquals(25, written.size());
+        Assertions.assertEquals("Category 0", written.get(0).getName());
+        Assertions.assertTrue(written.get(0).isActive());
+        Assertions.assertFalse(written.get(1).isActive());
+    }
+
+    @Test
+    public void givenACsvFile_whenCallsImport_shouldParseQuotedValuesAndValidateTypes() {
+        // given
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var lines = List.of(
+                "name,type",
+                "\"Reeves, Keanu\",actor",
+                "Wachowski,DIRECTOR",
+                "Nobody,writer",
+                "\"Broken"
+        );
+
+        // when
+        final var actualReport = importer.importFrom(ImportAggregate.CAST_MEMBERS, ImportFormat.CSV, stream(lines));
+
+        // then
+        Assertions.assertEquals(4, actualReport.lines());
+        Assertions.assertEquals(2, actualReport.imported());
+        Assertions.assertEquals(2, actualReport.failed());
+        Assertions.assertEquals(4, actualReport.errors().get(0).line());
+        Assertions.assertEquals(List.of("'type' must be one of ACTOR, DIRECTOR"), actualReport.errors().get(0).messages());
+        Assertions.assertEquals(5, actualReport.errors().get(1).line());
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members ->
+                members.size() == 2
+                        && "Reeves, Keanu".equals(members.get(0).getName())
+                        && members.get(0).getType() == CastMemberType.ACTOR
+                        && members.get(1).getType() == CastMemberType.DIRECTOR
+        ));
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsImport_shouldReportEveryLineOfThatBatch() {
+        // given
+        when(castMemberGateway.createAll(any()))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenAnswer(returnsFirstArg());
+
+        final var lines = IntStream.range(0, 15)
+                .mapToObj(i -> "{\"name\":\"Member %d\",\"type\":\"ACTOR\"}".formatted(i))
+                .toList();
+
+        // when
+        final var actualReport = importer.importFrom(ImportAggregate.CAST_MEMBERS, ImportFormat.NDJSON, stream(lines));
+
+        // then
+        Assertions.assertEquals(15, actualReport.lines());
+        Assertions.assertEquals(5, actualReport.imported());
+        Assertions.assertEquals(10, actualReport.failed());
+        Assertions.assertEquals(1, actualReport.errors().get(0).line());
+        Assertions.assertEquals(List.of("Batch insert failed: Gateway error"), actualReport.errors().get(0).messages());
+
+        verify(castMemberGateway, times(2)).createAll(any());
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenMoreErrorsThanReported_whenValidatorsFinishOutOfOrder_shouldReportTheLowestLines() {
+        // given
+        final var held = new ArrayList<Runnable>();
+        final Executor lastBatchFirst = task -> {
+            held.add(task);
+            if (held.size() == 6) {
+                Collections.reverse(held);
+                held.forEach(Runnable::run);
+            }
+        };
+        final var anImporter = new CatalogImporter(categoryGateway, castMemberGateway, 1, 8, 3, lastBatchFirst, WRITERS);
+
+        final var lines = IntStream.range(0, 6)
+                .mapToObj(i -> "{\"name\":\" \"}")
+                .toList();
+
+        // when
+        final var actualReport = anImporter.importFrom(ImportAggregate.CATEGORIES, ImportFormat.NDJSON, stream(lines));
+
+        // then
+        Assertions.assertEquals(6, actualReport.failed());
+        Assertions.assertTrue(actualReport.errorsTruncated());
+        Assertions.assertEquals(
+                List.of(1L, 2L, 3L),
+                actualReport.errors().stream().map(ImportReport.LineError::line).toList()
+        );
+        verifyNoInteractions(categoryGateway);
+    }
+
+    private static ByteArrayInputStream stream(final List<String> lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
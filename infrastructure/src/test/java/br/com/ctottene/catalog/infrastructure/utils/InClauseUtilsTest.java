@@ -0,0 +1,78 @@
+package br.com.ctottene.catalog.infrastructure.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+public class InClauseUtilsTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    public void givenMoreIdsThanOneChunk_whenCallsSelectInChunks_shouldQueryChunksOnTheExecutorInOrder() {
+        // given
+        final var ids = ids(InClauseUtils.CHUNK_SIZE * 2 + 1);
+
+        // when
+        final var actualIds = InClauseUtils.selectInChunks(ids, this::existing, executor);
+
+        // then
+        Assertions.assertEquals(ids, actualIds);
+        Assertions.assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void givenAnActiveTransaction_whenCallsSelectInChunks_shouldQueryOnTheCallerThread() {
+        // given
+        final var ids = ids(InClauseUtils.CHUNK_SIZE * 2 + 1);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        final var actualIds = InClauseUtils.selectInChunks(ids, this::existing, executor);
+
+        // then
+        Assertions.assertEquals(ids, actualIds);
+        Assertions.assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void givenAFailingChunk_whenCallsSelectInChunks_shouldRethrowTheCause() {
+        // given
+        final var ids = ids(InClauseUtils.CHUNK_SIZE + 1);
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () ->
+                InClauseUtils.selectInChunks(ids, chunk -> {
+                    throw new IllegalStateException("boom");
+                }, executor)
+        );
+
+        // then
+        Assertions.assertEquals("boom", actualException.getMessage());
+    }
+
+    private List<String> existing(final List<String> chunk) {
+        threads.add(Thread.currentThread().getName());
+        return chunk;
+    }
+
+    private static List<String> ids(final int count) {
+        return IntStream.range(0, count).mapToObj(Integer::toString).toList();
+    }
+}
@@ -0,0 +1,297 @@
+package br.com.ctottene.catalog.infrastructure.video;
+
+import br.com.ctottene.catalog.MySQLGatewayTest;
+import br.com.ctottene.catalog.domain.castmember.CastMember;
+import br.com.ctottene.catalog.domain.castmember.CastMemberType;
+import br.com.ctottene.catalog.domain.category.Category;
+import br.com.ctottene.catalog.domain.exceptions.DomainException;
+import br.com.ctottene.catalog.domain.genre.Genre;
+import br.com.ctottene.catalog.domain.video.*;
+import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import br.com.ctottene.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.ctottene.catalog.infrastructure.category.persistence.CategoryRepository;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import br.com.ctottene.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@MySQLGatewayTest
+public class VideoMySQLGatewayTest {
+
+    @Autowired
+    private VideoMySQLGateway videoGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category movies;
+    private Category series;
+    private Genre action;
+    private CastMember henry;
+    private CastMember amy;
+
+    @BeforeEach
+    public void setUp() {
+        movies = Category.newCategory("Movies", null, true);
+        series = Category.newCategory("Series", null, true);
+        action = Genre.newGenre("Action", true);
+        henry = CastMember.newCastMember("Henry Cavill", CastMemberType.ACTOR);
+        amy = CastMember.newCastMember("Amy Adams", CastMemberType.ACTOR);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(action));
+        castMemberRepository.saveAllAndFlush(List.of(CastMemberJpaEntity.from(henry), CastMemberJpaEntity.from(amy)));
+    }
+
+    @Test
+    public void testDependenciesInjected() {
+        Assertions.assertNotNull(videoGateway);
+        Assertions.assertNotNull(jdbcTemplate);
+    }
+
+    @Test
+    public void givenAValidVideoWithRelations_whenCallsCreate_shouldPersistItAndItsRelations() {
+        // given
+        final var aVideo = newVideo("Superman", Set.of(movies, series), Set.of(henry, amy))
+                .setBanner(ImageMedia.with("123", "banner", "/images/banner"))
+                .setVideo(AudioVideoMedia.with("456", "video", "/videos/raw", "/videos/encoded", MediaStatus.COMPLETED));
+        final var expectedId = aVideo.getId();
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        Assertions.assertEquals(1, count("videos"));
+        Assertions.assertEquals(2, count("videos_categories"));
+        Assertions.assertEquals(1, count("videos_genres"));
+        Assertions.assertEquals(2, count("videos_cast_members"));
+
+        final var actualVideo = videoGateway.findById(expectedId).orElseThrow();
+
+        Assertions.assertEquals(expectedId, actualVideo.getId());
+        Assertions.assertEquals(aVideo.getTitle(), actualVideo.getTitle());
+        Assertions.assertEquals(aVideo.getDescription(), actualVideo.getDescription());
+        Assertions.assertEquals(aVideo.getLaunchedAt(), actualVideo.getLaunchedAt());
+        Assertions.assertEquals(aVideo.getDuration(), actualVideo.getDuration());
+        Assertions.assertEquals(aVideo.getRating(), actualVideo.getRating());
+        Assertions.assertEquals(aVideo.getCategories(), actualVideo.getCategories());
+        Assertions.assertEquals(aVideo.getGenres(), actualVideo.getGenres());
+        Assertions.assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getBanner(), actualVideo.getBanner());
+        Assertions.assertEquals(aVideo.getVideo(), actualVideo.getVideo());
+        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
+        Assertions.assertEquals(aVideo.getCreatedAt(), actualVideo.getCreatedAt());
+        Assertions.assertEquals(aVideo.getUpdatedAt(), actualVideo.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsUpdateWithOtherRelations_shouldReplaceThem() {
+        // given
+        final var aVideo = videoGateway.create(newVideo("Superman", Set.of(movies, series), Set.of(henry, amy)));
+
+        // when
+        videoGateway.update(Video.with(aVideo).update(
+                "Batman",
+                aVideo.getDescription(),
+                Year.of(2020),
+                aVideo.getDuration(),
+                aVideo.isOpened(),
+                aVideo.isPublished(),
+                Rating.AGE_14,
+                Set.of(series.getId()),
+                Set.of(),
+                Set.of(amy.getId())
+        ));
+
+        // then
+        final var actualVideo = videoGateway.findById(aVideo.getId()).orElseThrow();
+
+        Assertions.assertEquals("Batman", actualVideo.getTitle());
+        Assertions.assertEquals(Year.of(2020), actualVideo.getLaunchedAt());
+        Assertions.assertEquals(Rating.AGE_14, actualVideo.getRating());
+        Assertions.assertEquals(Set.of(series.getId()), actualVideo.getCategories());
+        Assertions.assertEquals(Set.of(), actualVideo.getGenres());
+        Assertions.assertEquals(Set.of(amy.getId()), actualVideo.getCastMembers());
+        Assertions.assertEquals(1, count("videos_categories"));
+        Assertions.assertEquals(0, count("videos_genres"));
+        Assertions.assertEquals(1, count("videos_cast_members"));
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsDeleteById_shouldDeleteItAndItsRelations() {
+        // given
+        final var aVideo = videoGateway.create(newVideo("Superman", Set.of(movies), Set.of(henry)));
+        Assertions.assertEquals(1, count("videos"));
+
+        // when
+        videoGateway.deleteById(aVideo.getId());
+
+        // then
+        Assertions.assertEquals(0, count("videos"));
+        Assertions.assertEquals(0, count("videos_categories"));
+        Assertions.assertEquals(0, count("videos_genres"));
+        Assertions.assertEquals(0, count("videos_cast_members"));
+    }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(videoGateway.findById(VideoID.from("empty")).isEmpty());
+    }
+
+    @Test
+    public void givenPersistedVideos_whenCallsFindAll_shouldReturnPagedVideosWithRelations() {
+        // given
+        videoGateway.create(newVideo("Superman", Set.of(movies), Set.of(henry)));
+        videoGateway.create(newVideo("Batman", Set.of(series), Set.of(amy)));
+        videoGateway.create(newVideo("Aquaman", Set.of(movies, series), Set.of(henry, amy)));
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(0, 2, "", "title", "asc"));
+
+        // then
+        Assertions.assertEquals(0, actualPage.currentPage());
+        Assertions.assertEquals(2, actualPage.perPage());
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertEquals("Aquaman", actualPage.items().get(0).getTitle());
+        Assertions.assertEquals(Set.of(movies.getId(), series.getId()), actualPage.items().get(0).getCategories());
+        Assertions.assertEquals(Set.of(henry.getId(), amy.getId()), actualPage.items().get(0).getCastMembers());
+        Assertions.assertEquals("Batman", actualPage.items().get(1).getTitle());
+        Assertions.assertEquals(Set.of(series.getId()), actualPage.items().get(1).getCategories());
+    }
+
+    @Test
+    public void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered() {
+        // given
+        videoGateway.create(newVideo("Superman", Set.of(movies), Set.of(henry)));
+        videoGateway.create(newVideo("Batman", Set.of(series), Set.of(amy)));
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(0, 10, "super", "title", "asc"));
+
+        // then
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("Superman", actualPage.items().get(0).getTitle());
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid sort 'description', expected one of: createdAt, duration, launchedAt, rating, title, updatedAt";
+        final var query = new VideoSearchQuery(0, 10, "", "description", "asc");
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> videoGateway.findAll(query));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "Invalid sort direction 'sideways'";
+        final var query = new VideoSearchQuery(0, 10, "", "title", "sideways");
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> videoGateway.findAll(query));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAVideoWithRelationsAndMedias_whenCallsCreate_shouldIssueOneStatementPerTable() {
+        // given
+        final var statements = new AtomicInteger();
+        final var countingGateway = countingGateway(statements);
+        final var aVideo = newVideo("Superman", Set.of(movies, series), Set.of(henry, amy))
+                .setBanner(ImageMedia.with("123", "banner", "/images/banner"))
+                .setThumbnail(ImageMedia.with("456", "thumbnail", "/images/thumbnail"))
+                .setVideo(AudioVideoMedia.with("789", "video", "/videos/raw", "/videos/encoded", MediaStatus.COMPLETED));
+
+        // when
+        countingGateway.create(aVideo);
+
+        // then
+        // videos + videos_categories + videos_genres + videos_cast_members + image media + audio/video media
+        Assertions.assertEquals(6, statements.get());
+        Assertions.assertEquals(2, count("videos_image_media"));
+    }
+
+    @Test
+    public void givenPersistedVideos_whenCallsFindByIdAndFindAll_shouldHydrateWithAFixedNumberOfQueries() {
+        // given
+        final var statements = new AtomicInteger();
+        final var countingGateway = countingGateway(statements);
+        final var aVideo = videoGateway.create(newVideo("Superman", Set.of(movies), Set.of(henry)));
+        videoGateway.create(newVideo("Batman", Set.of(series), Set.of(amy)));
+        videoGateway.create(newVideo("Aquaman", Set.of(movies, series), Set.of(henry, amy)));
+
+        // when
+        countingGateway.findById(aVideo.getId()).orElseThrow();
+        final var findByIdStatements = statements.getAndSet(0);
+
+        final var actualPage = countingGateway.findAll(new VideoSearchQuery(0, 10, "", "title", "asc"));
+        final var findAllStatements = statements.getAndSet(0);
+
+        // then
+        // video row + categories + genres + cast members + image media + audio/video media
+        Assertions.assertEquals(6, findByIdStatements);
+        // the same hydration plus the count query, no matter how many videos are on the page
+        Assertions.assertEquals(3, actualPage.items().size());
+        Assertions.assertEquals(7, findAllStatements);
+    }
+
+    private VideoMySQLGateway countingGateway(final AtomicInteger statements) {
+        // Reuses the test DataSource so the statements join the test transaction
+        final var counting = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            protected void applyStatementSettings(final Statement stmt) throws SQLException {
+                statements.incrementAndGet();
+                super.applyStatementSettings(stmt);
+            }
+        };
+        return new VideoMySQLGateway(new NamedParameterJdbcTemplate(counting));
+    }
+
+    private Video newVideo(final String title, final Set<Category> categories, final Set<CastMember> castMembers) {
+        return Video.newVideo(
+                title,
+                "Some description",
+                Year.of(2022),
+                120.0,
+                true,
+                false,
+                Rating.L,
+                Set.copyOf(categories.stream().map(Category::getId).toList()),
+                Set.of(action.getId()),
+                Set.copyOf(castMembers.stream().map(CastMember::getId).toList())
+        );
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}